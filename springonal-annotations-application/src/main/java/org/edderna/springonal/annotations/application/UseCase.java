@@ -28,4 +28,6 @@ import java.lang.annotation.Target;
 @Target({ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface UseCase {
+
+    ExecutionMode executionMode() default ExecutionMode.SYNCHRONOUS;
 }
@@ -0,0 +1,144 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpringonalScanBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    int classCount;
+
+    @Param({"0.05"})
+    double componentShare;
+
+    private SyntheticClasspath classpath;
+
+    private Class<?> mainClass;
+
+    private DefaultListableBeanFactory populatedRegistry;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ClassNotFoundException {
+        classpath = SyntheticClasspath.generate(classCount, componentShare);
+        mainClass = ClassUtils.forName(SyntheticClasspath.MAIN_CLASS, classpath.getClassLoader());
+        populatedRegistry = newRegistry();
+        classpath.getClassNames().forEach(className ->
+                populatedRegistry.registerBeanDefinition(className, new RootBeanDefinition(className)));
+        populatedRegistry.registerBeanDefinition("application", new RootBeanDefinition(SyntheticClasspath.MAIN_CLASS));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classpath.close();
+    }
+
+    @Benchmark
+    public DefaultListableBeanFactory postProcessBeanDefinitionRegistry() {
+        return scan();
+    }
+
+    @Benchmark
+    public DefaultListableBeanFactory postProcessBeanDefinitionRegistryWithScanCache(ScanCache scanCache) {
+        return scan();
+    }
+
+    @Benchmark
+    public Optional<Class<?>> findMainClass() {
+        return MainClassResolver.findMainClass(populatedRegistry);
+    }
+
+    @Benchmark
+    public Set<String> resolveBasePackage() {
+        return BasePackageResolver.resolveBasePackage(mainClass);
+    }
+
+    private DefaultListableBeanFactory scan() {
+        DefaultListableBeanFactory registry = newRegistry();
+        registry.registerBeanDefinition("application", new RootBeanDefinition(SyntheticClasspath.MAIN_CLASS));
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classpath.getClassLoader());
+        try {
+            new SpringonalComponentScanPostProcessor().postProcessBeanDefinitionRegistry(registry);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        return registry;
+    }
+
+    private DefaultListableBeanFactory newRegistry() {
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        registry.setBeanClassLoader(classpath.getClassLoader());
+        return registry;
+    }
+
+    @State(Scope.Benchmark)
+    public static class ScanCache {
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("springonal-scan-cache");
+            SpringProperties.setFlag(SpringonalScanCache.ENABLED_PROPERTY);
+            SpringProperties.setProperty(SpringonalScanCache.CACHE_DIRECTORY_PROPERTY, directory.toString());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            SpringProperties.setProperty(SpringonalScanCache.ENABLED_PROPERTY, null);
+            SpringProperties.setProperty(SpringonalScanCache.CACHE_DIRECTORY_PROPERTY, null);
+            SpringonalScanCache.clearMemory();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter;
+import org.edderna.springonal.annotations.interfaces.IndoundRestAdapter;
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+final class SyntheticClasspath implements AutoCloseable {
+
+    static final String ROOT_PACKAGE = "bench.synthetic";
+
+    static final String MAIN_CLASS = ROOT_PACKAGE + ".Application";
+
+    private static final List<Class<? extends Annotation>> STEREOTYPES = List.of(
+            UseCase.class,
+            IndoundRestAdapter.class,
+            OutboundDatabaseAdapter.class
+    );
+
+    private static final int MODULES = 8;
+
+    private static final int PACKAGES_PER_MODULE = 16;
+
+    private final Path root;
+
+    private final URLClassLoader classLoader;
+
+    private final List<String> classNames;
+
+    private SyntheticClasspath(Path root, List<String> classNames) throws IOException {
+        this.root = root;
+        this.classNames = classNames;
+        this.classLoader = new URLClassLoader(new URL[]{root.toUri().toURL()}, SyntheticClasspath.class.getClassLoader());
+    }
+
+    static SyntheticClasspath generate(int classCount, double componentShare) {
+        try {
+            Path root = Files.createTempDirectory("springonal-bench");
+            int componentEvery = componentShare <= 0 ? Integer.MAX_VALUE : (int) Math.max(1, Math.round(1 / componentShare));
+            List<String> classNames = new ArrayList<>(classCount);
+            TreeSet<String> packages = new TreeSet<>();
+            for (int i = 0; i < classCount; i++) {
+                String packageName = ROOT_PACKAGE + ".m" + (i % MODULES) + ".p" + (i / MODULES % PACKAGES_PER_MODULE);
+                String className = packageName + ".C" + i;
+                Class<? extends Annotation> stereotype = i % componentEvery == 0
+                        ? STEREOTYPES.get(i / componentEvery % STEREOTYPES.size())
+                        : null;
+                write(root, className, component(className, stereotype));
+                classNames.add(className);
+                packages.add(ROOT_PACKAGE + ".m" + (i % MODULES));
+                packages.add(packageName);
+            }
+            write(root, MAIN_CLASS, mainClass(packages));
+            return new SyntheticClasspath(root, classNames);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    List<String> getClassNames() {
+        return classNames;
+    }
+
+    @Override
+    public void close() throws IOException {
+        classLoader.close();
+        FileSystemUtils.deleteRecursively(root);
+    }
+
+    private static void write(Path root, String className, byte[] bytecode) throws IOException {
+        Path file = root.resolve(className.replace('.', '/') + ".class");
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytecode);
+    }
+
+    private static byte[] component(String className, Class<? extends Annotation> stereotype) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName(className), null, "java/lang/Object", null);
+        if (stereotype != null) {
+            writer.visitAnnotation(Type.getDescriptor(stereotype), true).visitEnd();
+        }
+        writeDefaultConstructor(writer);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] mainClass(TreeSet<String> packages) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName(MAIN_CLASS), null, "java/lang/Object", null);
+        AnnotationVisitor componentScan = writer.visitAnnotation(Type.getDescriptor(ComponentScan.class), true);
+        AnnotationVisitor basePackages = componentScan.visitArray("basePackages");
+        packages.forEach(pkg -> basePackages.visit(null, pkg));
+        basePackages.visitEnd();
+        componentScan.visitEnd();
+        writeDefaultConstructor(writer);
+        MethodVisitor main = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "main", "([Ljava/lang/String;)V", null, null);
+        main.visitCode();
+        main.visitInsn(Opcodes.RETURN);
+        main.visitMaxs(0, 1);
+        main.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void writeDefaultConstructor(ClassWriter writer) {
+        MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(1, 1);
+        constructor.visitEnd();
+    }
+
+    private static String internalName(String className) {
+        return className.replace('.', '/');
+    }
+}
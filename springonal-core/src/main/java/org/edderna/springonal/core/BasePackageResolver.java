@@ -34,7 +34,7 @@ final class BasePackageResolver {
     }
 
     static Set<String> resolveBasePackage(Class<?> clazz) {
-        return Stream.concat(
+        return collapseToRoots(Stream.concat(
                 Stream.of(clazz.getPackageName()),
                 Stream.concat(
                         Optional.ofNullable(AnnotationUtils.findAnnotation(clazz, ComponentScans.class))
@@ -45,7 +45,21 @@ final class BasePackageResolver {
                                 .stream()
                                 .flatMap(scan -> resolvePackages(scan).stream())
                 )
-        ).collect(Collectors.toSet());
+        ).collect(Collectors.toSet()));
+    }
+
+    static SortedSet<String> collapseToRoots(Collection<String> packages) {
+        SortedSet<String> roots = new TreeSet<>();
+        new TreeSet<>(packages).forEach(pkg -> {
+            if (roots.stream().noneMatch(root -> isSameOrSubPackage(pkg, root))) {
+                roots.add(pkg);
+            }
+        });
+        return roots;
+    }
+
+    private static boolean isSameOrSubPackage(String pkg, String root) {
+        return root.isEmpty() || pkg.equals(root) || pkg.startsWith(root + ".");
     }
 
     private static Set<String> resolvePackages(ComponentScan componentScan) {
@@ -0,0 +1,60 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public interface ChangeTracker<T> {
+
+    String SUFFIX = "_ChangeTracker";
+
+    Class<T> type();
+
+    List<String> properties();
+
+    Object[] snapshot(T entity);
+
+    Set<String> changedProperties(T entity, Object[] snapshot);
+
+    void children(T entity, Consumer<Object> consumer);
+
+    static Object snapshotOf(Object value) {
+        return switch (value) {
+            case Set<?> set -> new HashSet<>(set);
+            case Collection<?> collection -> new ArrayList<>(collection);
+            case Map<?, ?> map -> new LinkedHashMap<>(map);
+            case null, default -> value;
+        };
+    }
+
+    static String trackerClassName(Class<?> type) {
+        String packageName = type.getPackageName();
+        String simpleName = packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + SUFFIX;
+    }
+}
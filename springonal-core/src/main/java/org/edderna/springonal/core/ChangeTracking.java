@@ -0,0 +1,167 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public final class ChangeTracking {
+
+    private static final ThreadLocal<UnitOfWork> current = new ThreadLocal<>();
+
+    private static final ClassValue<Optional<ChangeTracker<?>>> trackers = new ClassValue<>() {
+        @Override
+        protected Optional<ChangeTracker<?>> computeValue(Class<?> type) {
+            return loadTracker(type);
+        }
+    };
+
+    private ChangeTracking() {
+    }
+
+    public static UnitOfWork begin() {
+        UnitOfWork unitOfWork = current.get();
+        if (unitOfWork == null) {
+            unitOfWork = new UnitOfWork();
+            current.set(unitOfWork);
+        }
+        unitOfWork.depth++;
+        return unitOfWork;
+    }
+
+    public static Optional<UnitOfWork> currentUnitOfWork() {
+        return Optional.ofNullable(current.get());
+    }
+
+    public static boolean isTracked(Class<?> type) {
+        return trackers.get(type).isPresent();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<ChangeTracker<T>> trackerFor(Class<T> type) {
+        return trackers.get(type).map(tracker -> (ChangeTracker<T>) tracker);
+    }
+
+    public static void track(Object entity) {
+        currentUnitOfWork().ifPresent(unitOfWork -> unitOfWork.track(entity));
+    }
+
+    public static Optional<Set<String>> changedProperties(Object entity) {
+        return currentUnitOfWork().flatMap(unitOfWork -> unitOfWork.changedProperties(entity));
+    }
+
+    public static List<EntityChange> changes() {
+        return currentUnitOfWork().map(UnitOfWork::changes).orElseGet(List::of);
+    }
+
+    public static void markPersisted(Object entity) {
+        currentUnitOfWork().ifPresent(unitOfWork -> unitOfWork.markPersisted(entity));
+    }
+
+    private static Optional<ChangeTracker<?>> loadTracker(Class<?> type) {
+        try {
+            Class<?> trackerClass = Class.forName(ChangeTracker.trackerClassName(type), true, type.getClassLoader());
+            return Optional.of((ChangeTracker<?>) trackerClass.getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to instantiate change tracker for " + type.getName(), e);
+        }
+    }
+
+    public record EntityChange(Object entity, Set<String> changedProperties) {
+    }
+
+    public static final class UnitOfWork implements AutoCloseable {
+
+        private final Map<Object, Object[]> snapshots = new IdentityHashMap<>();
+
+        private int depth;
+
+        private UnitOfWork() {
+        }
+
+        public void track(Object entity) {
+            if (entity == null || snapshots.containsKey(entity)) {
+                return;
+            }
+            trackerFor(entity.getClass()).ifPresent(tracker -> {
+                snapshots.put(entity, snapshot(tracker, entity));
+                children(tracker, entity).forEach(this::track);
+            });
+        }
+
+        public Optional<Set<String>> changedProperties(Object entity) {
+            Object[] snapshot = snapshots.get(entity);
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            return trackerFor(entity.getClass()).map(tracker -> changedProperties(tracker, entity, snapshot));
+        }
+
+        public List<EntityChange> changes() {
+            List<EntityChange> changes = new ArrayList<>();
+            snapshots.forEach((entity, _) -> changedProperties(entity)
+                    .filter(properties -> !properties.isEmpty())
+                    .ifPresent(properties -> changes.add(new EntityChange(entity, properties))));
+            return changes;
+        }
+
+        public void markPersisted(Object entity) {
+            if (entity == null) {
+                return;
+            }
+            trackerFor(entity.getClass()).ifPresent(tracker -> {
+                snapshots.put(entity, snapshot(tracker, entity));
+                children(tracker, entity).forEach(this::markPersisted);
+            });
+        }
+
+        @Override
+        public void close() {
+            if (--depth == 0) {
+                snapshots.clear();
+                current.remove();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Object[] snapshot(ChangeTracker<T> tracker, Object entity) {
+            return tracker.snapshot((T) entity);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Set<String> changedProperties(ChangeTracker<T> tracker, Object entity, Object[] snapshot) {
+            return tracker.changedProperties((T) entity, snapshot);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> List<Object> children(ChangeTracker<T> tracker, Object entity) {
+            List<Object> children = new ArrayList<>();
+            tracker.children((T) entity, children::add);
+            return children;
+        }
+    }
+}
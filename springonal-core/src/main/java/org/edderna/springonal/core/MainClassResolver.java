@@ -20,53 +20,120 @@ package org.edderna.springonal.core;
  * #L%
  */
 
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.lang.NonNull;
+import org.springframework.util.ClassUtils;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 final class MainClassResolver {
 
+    private static final String MAIN_METHOD_DESCRIPTOR = "([Ljava/lang/String;)V";
+
+    private static final int PUBLIC_STATIC = Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC;
+
+    private static final List<String> MAIN_CLASS_ANNOTATIONS = List.of(
+            "org.springframework.boot.autoconfigure.SpringBootApplication",
+            "org.springframework.boot.SpringBootConfiguration",
+            Configuration.class.getName()
+    );
+
     private MainClassResolver() {
     }
 
     static Optional<Class<?>> findMainClass(BeanDefinitionRegistry registry) {
+        ClassLoader classLoader = resolveClassLoader(registry);
         return Arrays.stream(registry.getBeanDefinitionNames())
                 .map(registry::getBeanDefinition)
+                .filter(beanDefinition -> beanDefinition.getRole() != BeanDefinition.ROLE_INFRASTRUCTURE)
+                .sorted(Comparator.comparingInt(MainClassResolver::mainClassPriority))
                 .map(BeanDefinition::getBeanClassName)
                 .filter(Objects::nonNull)
-                .<Class<?>>map(MainClassResolver::loadClassSafely)
-                .filter(Objects::nonNull)
-                .filter(MainClassResolver::isMainClass)
-                .findFirst();
+                .map(MainClassResolver::stripKotlinSuffix)
+                .distinct()
+                .filter(className -> declaresMainMethod(className, classLoader))
+                .findFirst()
+                .flatMap(className -> loadClassSafely(className, classLoader));
     }
 
-    private static Class<?> loadClassSafely(@NonNull String beanName) {
-        try {
-            if (beanName.endsWith("Kt")) {
-                beanName = beanName.substring(0, beanName.length() - 2);
+    private static ClassLoader resolveClassLoader(BeanDefinitionRegistry registry) {
+        if (registry instanceof ConfigurableBeanFactory beanFactory && beanFactory.getBeanClassLoader() != null) {
+            return beanFactory.getBeanClassLoader();
+        }
+        return ClassUtils.getDefaultClassLoader();
+    }
+
+    private static int mainClassPriority(BeanDefinition beanDefinition) {
+        if (beanDefinition instanceof AnnotatedBeanDefinition annotated) {
+            AnnotationMetadata metadata = annotated.getMetadata();
+            for (int i = 0; i < MAIN_CLASS_ANNOTATIONS.size(); i++) {
+                if (metadata.isAnnotated(MAIN_CLASS_ANNOTATIONS.get(i))) {
+                    return i;
+                }
             }
-            return Class.forName(beanName);
+        }
+        return MAIN_CLASS_ANNOTATIONS.size();
+    }
 
-        } catch (ClassNotFoundException e) {
-            return null;
+    private static String stripKotlinSuffix(@NonNull String beanName) {
+        if (beanName.endsWith("Kt")) {
+            return beanName.substring(0, beanName.length() - 2);
         }
+        return beanName;
     }
 
-    private static boolean isMainClass(Class<?> candidate) {
-        try {
-            Method main = candidate.getDeclaredMethod("main", String[].class);
-            int mods = main.getModifiers();
-            return Modifier.isPublic(mods) &&
-                    Modifier.isStatic(mods) &&
-                    main.getReturnType().equals(void.class);
-        } catch (NoSuchMethodException _) {
+    private static boolean declaresMainMethod(String className, ClassLoader classLoader) {
+        String resourcePath = ClassUtils.convertClassNameToResourcePath(className) + ClassUtils.CLASS_FILE_SUFFIX;
+        try (InputStream in = classLoader.getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                return false;
+            }
+            MainMethodDetector detector = new MainMethodDetector();
+            new ClassReader(in).accept(detector, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return detector.found;
+        } catch (IOException | IllegalArgumentException _) {
             return false;
         }
     }
+
+    private static Optional<Class<?>> loadClassSafely(String className, ClassLoader classLoader) {
+        try {
+            return Optional.of(ClassUtils.forName(className, classLoader));
+        } catch (ClassNotFoundException | LinkageError _) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class MainMethodDetector extends ClassVisitor {
+
+        private boolean found;
+
+        private MainMethodDetector() {
+            super(SpringAsmInfo.ASM_VERSION);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            if ("main".equals(name) && MAIN_METHOD_DESCRIPTOR.equals(descriptor) && (access & PUBLIC_STATIC) == PUBLIC_STATIC) {
+                found = true;
+            }
+            return null;
+        }
+    }
 }
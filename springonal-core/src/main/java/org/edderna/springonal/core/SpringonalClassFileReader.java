@@ -0,0 +1,177 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+final class SpringonalClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private SpringonalClassFileReader() {
+    }
+
+    static Optional<AnnotatedClass> read(Resource resource) throws IOException {
+        return read(load(resource));
+    }
+
+    static Optional<AnnotatedClass> read(ByteBuffer classFile) {
+        try {
+            return Optional.ofNullable(parse(classFile));
+        } catch (IndexOutOfBoundsException | BufferUnderflowException _) {
+            return Optional.empty();
+        }
+    }
+
+    static ByteBuffer load(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return ByteBuffer.wrap(Files.readAllBytes(resource.getFile().toPath()));
+        }
+        return ByteBuffer.wrap(resource.getContentAsByteArray());
+    }
+
+    private static AnnotatedClass parse(ByteBuffer classFile) {
+        if (classFile.getInt(0) != MAGIC) {
+            return null;
+        }
+        int constantPoolCount = u2(classFile, 8);
+        int[] offsets = new int[constantPoolCount];
+        int position = 10;
+        for (int i = 1; i < constantPoolCount; i++) {
+            offsets[i] = position;
+            int tag = classFile.get(position) & 0xFF;
+            position += switch (tag) {
+                case 1 -> 3 + u2(classFile, position + 1);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> 5;
+                case 5, 6 -> 9;
+                case 7, 8, 16, 19, 20 -> 3;
+                case 15 -> 4;
+                default -> throw new IndexOutOfBoundsException("Unknown constant pool tag " + tag);
+            };
+            if (tag == 5 || tag == 6) {
+                i++;
+            }
+        }
+        String className = utf8(classFile, offsets[u2(classFile, offsets[u2(classFile, position + 2)] + 1)]).replace('/', '.');
+        position += 6;
+        position += 2 + 2 * u2(classFile, position);
+        position = skipMembers(classFile, position);
+        position = skipMembers(classFile, position);
+        int attributes = u2(classFile, position);
+        position += 2;
+        for (int i = 0; i < attributes; i++) {
+            int length = classFile.getInt(position + 2);
+            if (isUtf8(classFile, offsets[u2(classFile, position)], RUNTIME_VISIBLE_ANNOTATIONS)) {
+                return new AnnotatedClass(className, annotations(classFile, offsets, position + 6));
+            }
+            position += 6 + length;
+        }
+        return new AnnotatedClass(className, List.of());
+    }
+
+    private static List<String> annotations(ByteBuffer classFile, int[] offsets, int position) {
+        int count = u2(classFile, position);
+        List<String> types = new ArrayList<>(count);
+        int[] cursor = {position + 2};
+        for (int i = 0; i < count; i++) {
+            String descriptor = utf8(classFile, offsets[u2(classFile, cursor[0])]);
+            types.add(descriptor.substring(1, descriptor.length() - 1).replace('/', '.'));
+            skipAnnotation(classFile, cursor);
+        }
+        return types;
+    }
+
+    private static int skipMembers(ByteBuffer classFile, int position) {
+        int members = u2(classFile, position);
+        position += 2;
+        for (int i = 0; i < members; i++) {
+            int attributes = u2(classFile, position + 6);
+            position += 8;
+            for (int j = 0; j < attributes; j++) {
+                position += 6 + classFile.getInt(position + 2);
+            }
+        }
+        return position;
+    }
+
+    private static void skipAnnotation(ByteBuffer classFile, int[] cursor) {
+        int pairs = u2(classFile, cursor[0] + 2);
+        cursor[0] += 4;
+        for (int i = 0; i < pairs; i++) {
+            cursor[0] += 2;
+            skipElementValue(classFile, cursor);
+        }
+    }
+
+    private static void skipElementValue(ByteBuffer classFile, int[] cursor) {
+        char tag = (char) classFile.get(cursor[0]++);
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> cursor[0] += 2;
+            case 'e' -> cursor[0] += 4;
+            case '@' -> skipAnnotation(classFile, cursor);
+            case '[' -> {
+                int values = u2(classFile, cursor[0]);
+                cursor[0] += 2;
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(classFile, cursor);
+                }
+            }
+            default -> throw new IndexOutOfBoundsException("Unknown element value tag " + tag);
+        }
+    }
+
+    private static boolean isUtf8(ByteBuffer classFile, int offset, String expected) {
+        int length = u2(classFile, offset + 1);
+        if (length != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (classFile.get(offset + 3 + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String utf8(ByteBuffer classFile, int offset) {
+        byte[] bytes = new byte[u2(classFile, offset + 1)];
+        classFile.get(offset + 3, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int u2(ByteBuffer classFile, int position) {
+        return classFile.getShort(position) & 0xFFFF;
+    }
+
+    record AnnotatedClass(String className, List<String> annotationTypes) {
+    }
+}
@@ -0,0 +1,367 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.interfaces.InboundAdapter;
+import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class SpringonalClassPathBeanDefinitionScanner extends ClassPathBeanDefinitionScanner {
+
+    private static final List<String> CACHE_STEREOTYPES = SpringonalComponentScanPostProcessor.STEREOTYPES.stream()
+            .map(Class::getName)
+            .toList();
+
+    private static final String CACHE_SCOPE = String.join(",", CACHE_STEREOTYPES);
+
+    private final Map<String, SpringonalScanReport.PackageScan> packageScans = new ConcurrentSkipListMap<>();
+
+    private final ThreadLocal<AtomicInteger> currentClassesRead = new ThreadLocal<>();
+
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    private Map<String, Set<BeanDefinition>> prefetchedCandidates = Map.of();
+
+    private boolean pruneUnreferenced;
+
+    private List<String> candidateStereotypes = List.of();
+
+    SpringonalClassPathBeanDefinitionScanner(BeanDefinitionRegistry registry) {
+        super(registry);
+    }
+
+    void setApplicationStartup(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    void setPruneUnreferenced(boolean pruneUnreferenced) {
+        this.pruneUnreferenced = pruneUnreferenced;
+    }
+
+    void setCandidateStereotypes(Collection<Class<? extends Annotation>> candidateStereotypes) {
+        this.candidateStereotypes = candidateStereotypes.stream().map(Class::getName).toList();
+    }
+
+    List<SpringonalScanReport.PackageScan> getPackageScans() {
+        return List.copyOf(packageScans.values());
+    }
+
+    @Override
+    protected Set<BeanDefinitionHolder> doScan(String... basePackages) {
+        prefetchedCandidates = findCandidateComponentsInParallel(basePackages);
+        try {
+            Set<BeanDefinitionHolder> beanDefinitions = new LinkedHashSet<>();
+            for (String basePackage : basePackages) {
+                StartupStep step = applicationStartup.start("springonal.scan.package")
+                        .tag("package", basePackage);
+                beanDefinitions.addAll(super.doScan(basePackage));
+                Optional.ofNullable(packageScans.get(basePackage)).ifPresent(scan -> tag(step, scan));
+                step.end();
+            }
+            return beanDefinitions;
+        } finally {
+            prefetchedCandidates = Map.of();
+        }
+    }
+
+    @Override
+    protected void postProcessBeanDefinition(AbstractBeanDefinition beanDefinition, String beanName) {
+        super.postProcessBeanDefinition(beanDefinition, beanName);
+        if (pruneUnreferenced && beanDefinition instanceof AnnotatedBeanDefinition annotated
+                && !annotated.getMetadata().isAnnotated(InboundAdapter.class.getName())) {
+            beanDefinition.setLazyInit(true);
+        }
+    }
+
+    @Override
+    public Set<BeanDefinition> findCandidateComponents(String basePackage) {
+        Set<BeanDefinition> prefetched = prefetchedCandidates.get(basePackage);
+        if (prefetched != null) {
+            return prefetched;
+        }
+        long start = System.nanoTime();
+        AtomicInteger classesRead = new AtomicInteger();
+        currentClassesRead.set(classesRead);
+        try {
+            Set<BeanDefinition> candidates = findIndexedCandidateComponents(basePackage)
+                    .or(() -> findCachedCandidateComponents(basePackage))
+                    .orElseGet(() -> scanCandidateComponents(basePackage));
+            packageScans.put(basePackage, new SpringonalScanReport.PackageScan(
+                    basePackage,
+                    classesRead.get(),
+                    countByStereotype(candidates),
+                    Duration.ofNanos(System.nanoTime() - start)));
+            return candidates;
+        } finally {
+            currentClassesRead.remove();
+        }
+    }
+
+    @Override
+    protected boolean isCandidateComponent(MetadataReader metadataReader) throws IOException {
+        Optional.ofNullable(currentClassesRead.get()).ifPresent(AtomicInteger::incrementAndGet);
+        return super.isCandidateComponent(metadataReader);
+    }
+
+    private static Map<String, Integer> countByStereotype(Set<BeanDefinition> candidates) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        SpringonalComponentScanPostProcessor.STEREOTYPES.forEach(stereotype -> counts.put(
+                stereotype.getSimpleName(),
+                (int) candidates.stream()
+                        .filter(AnnotatedBeanDefinition.class::isInstance)
+                        .map(candidate -> ((AnnotatedBeanDefinition) candidate).getMetadata())
+                        .filter(metadata -> metadata.isAnnotated(stereotype.getName()))
+                        .count()));
+        return counts;
+    }
+
+    private static void tag(StartupStep step, SpringonalScanReport.PackageScan scan) {
+        step.tag("classes-read", String.valueOf(scan.classesRead()));
+        scan.candidatesByStereotype().forEach((stereotype, count) ->
+                step.tag("candidates." + stereotype, String.valueOf(count)));
+        step.tag("elapsed", scan.elapsed().toString());
+    }
+
+    private Map<String, Set<BeanDefinition>> findCandidateComponentsInParallel(String... basePackages) {
+        int parallelism = Math.min(basePackages.length, Runtime.getRuntime().availableProcessors());
+        if (parallelism <= 1) {
+            return Map.of();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, scanThreadFactory());
+        try {
+            Map<String, Future<Set<BeanDefinition>>> futures = new LinkedHashMap<>();
+            for (String basePackage : basePackages) {
+                futures.putIfAbsent(basePackage, executor.submit(() -> findCandidateComponents(basePackage)));
+            }
+            Map<String, Set<BeanDefinition>> candidates = new HashMap<>();
+            for (Map.Entry<String, Future<Set<BeanDefinition>>> future : futures.entrySet()) {
+                candidates.put(future.getKey(), future.getValue().get());
+            }
+            return candidates;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to scan Springonal components", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning Springonal components", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory scanThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "springonal-scan-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private Optional<Set<BeanDefinition>> findIndexedCandidateComponents(String basePackage) {
+        ResourceLoader resourceLoader = getResourceLoader();
+        return Optional.ofNullable(resourceLoader.getClassLoader())
+                .flatMap(classLoader -> SpringonalComponentsIndex.load(classLoader)
+                        .flatMap(index -> findIndexedCandidateComponents(index, classLoader, basePackage, resourceLoader)));
+    }
+
+    private Optional<Set<BeanDefinition>> findIndexedCandidateComponents(SpringonalComponentsIndex index,
+            ClassLoader classLoader, String basePackage, ResourceLoader resourceLoader) {
+        String packagePath = basePackage.isEmpty() ? "" : resolveBasePackage(basePackage) + "/";
+        Map<String, Set<String>> indexedTypes = new TreeMap<>();
+        Set<BeanDefinition> scanned = new LinkedHashSet<>();
+        try {
+            Set<String> roots = new LinkedHashSet<>(index.getRoots());
+            for (URL packageUrl : Collections.list(classLoader.getResources(packagePath))) {
+                String location = packageUrl.toExternalForm();
+                if (location.endsWith(packagePath)) {
+                    roots.add(location.substring(0, location.length() - packagePath.length()));
+                }
+            }
+            for (String root : roots) {
+                Optional<Map<String, Set<String>>> rootTypes = index.getCandidateTypes(root, basePackage);
+                if (rootTypes.isPresent()) {
+                    indexedTypes.putAll(rootTypes.get());
+                } else {
+                    scanned.addAll(readCandidateComponents(ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+                            .getResources(root + packagePath + "**/*" + ClassUtils.CLASS_FILE_SUFFIX)));
+                }
+            }
+        } catch (IOException _) {
+            return Optional.empty();
+        }
+        return readCandidates(indexedTypes, resourceLoader).map(candidates -> {
+            candidates.addAll(scanned);
+            return candidates;
+        });
+    }
+
+    private Optional<Set<BeanDefinition>> findCachedCandidateComponents(String basePackage) {
+        ResourceLoader resourceLoader = getResourceLoader();
+        ClassLoader classLoader = resourceLoader.getClassLoader();
+        Optional<SpringonalScanCache> scanCache = SpringonalScanCache.get();
+        if (classLoader == null || scanCache.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Set<String>> cachedTypes = scanCache.get().candidates(classLoader, CACHE_SCOPE, basePackage,
+                    root -> scanRoot(root, resourceLoader));
+            Optional<Set<BeanDefinition>> candidates = readCandidates(cachedTypes, resourceLoader);
+            if (candidates.isEmpty()) {
+                scanCache.get().invalidate(classLoader, CACHE_SCOPE, basePackage);
+            }
+            return candidates;
+        } catch (IOException _) {
+            return Optional.empty();
+        }
+    }
+
+    private Set<BeanDefinition> scanCandidateComponents(String basePackage) {
+        ClassLoader classLoader = getResourceLoader().getClassLoader();
+        if (candidateStereotypes.isEmpty() || classLoader == null) {
+            return super.findCandidateComponents(basePackage);
+        }
+        try {
+            return readCandidateComponents(ResourcePatternUtils.getResourcePatternResolver(getResourceLoader())
+                    .getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + resolveBasePackage(basePackage)
+                            + "/**/*" + ClassUtils.CLASS_FILE_SUFFIX));
+        } catch (IOException e) {
+            throw new BeanDefinitionStoreException("I/O failure during Springonal classpath scanning", e);
+        }
+    }
+
+    private Set<BeanDefinition> readCandidateComponents(Resource[] resources) throws IOException {
+        SpringonalMetaAnnotations metaAnnotations = candidateStereotypes.isEmpty()
+                ? null
+                : SpringonalMetaAnnotations.forClassLoader(getResourceLoader().getClassLoader());
+        Set<BeanDefinition> candidates = new LinkedHashSet<>();
+        for (Resource resource : resources) {
+            if (metaAnnotations != null) {
+                Optional<SpringonalClassFileReader.AnnotatedClass> annotatedClass = SpringonalClassFileReader.read(resource);
+                if (annotatedClass.isPresent()
+                        && !metaAnnotations.isAnnotated(annotatedClass.get().annotationTypes(), candidateStereotypes)) {
+                    Optional.ofNullable(currentClassesRead.get()).ifPresent(AtomicInteger::incrementAndGet);
+                    continue;
+                }
+            }
+            MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+            if (isCandidateComponent(metadataReader)) {
+                ScannedGenericBeanDefinition candidate = new ScannedGenericBeanDefinition(metadataReader);
+                candidate.setSource(resource);
+                if (isCandidateComponent(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private Map<String, Set<String>> scanRoot(URL root, ResourceLoader resourceLoader) throws IOException {
+        Map<String, Set<String>> stereotypedTypes = new TreeMap<>();
+        Resource[] resources = ResourcePatternUtils.getResourcePatternResolver(resourceLoader)
+                .getResources(root.toExternalForm() + "**/*" + ClassUtils.CLASS_FILE_SUFFIX);
+        SpringonalMetaAnnotations metaAnnotations = SpringonalMetaAnnotations.forClassLoader(resourceLoader.getClassLoader());
+        for (Resource resource : resources) {
+            Optional.ofNullable(currentClassesRead.get()).ifPresent(AtomicInteger::incrementAndGet);
+            Optional<SpringonalClassFileReader.AnnotatedClass> annotatedClass = SpringonalClassFileReader.read(resource);
+            if (annotatedClass.isPresent()) {
+                Set<String> stereotypes = new TreeSet<>();
+                annotatedClass.get().annotationTypes()
+                        .forEach(annotationType -> stereotypes.addAll(metaAnnotations.closure(annotationType)));
+                stereotypes.retainAll(CACHE_STEREOTYPES);
+                if (!stereotypes.isEmpty()) {
+                    stereotypedTypes.put(annotatedClass.get().className(), stereotypes);
+                }
+                continue;
+            }
+            AnnotationMetadata metadata = getMetadataReaderFactory().getMetadataReader(resource).getAnnotationMetadata();
+            Set<String> stereotypes = CACHE_STEREOTYPES.stream()
+                    .filter(metadata::isAnnotated)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            if (!stereotypes.isEmpty()) {
+                stereotypedTypes.put(metadata.getClassName(), stereotypes);
+            }
+        }
+        return stereotypedTypes;
+    }
+
+    private Optional<Set<BeanDefinition>> readCandidates(Map<String, Set<String>> indexedTypes, ResourceLoader resourceLoader) {
+        Set<BeanDefinition> candidates = new LinkedHashSet<>();
+        try {
+            for (Map.Entry<String, Set<String>> indexed : indexedTypes.entrySet()) {
+                Resource resource = resourceLoader.getResource(ResourceLoader.CLASSPATH_URL_PREFIX
+                        + ClassUtils.convertClassNameToResourcePath(indexed.getKey()) + ClassUtils.CLASS_FILE_SUFFIX);
+                if (!resource.exists()) {
+                    return Optional.empty();
+                }
+                MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+                if (!isStillAnnotated(metadataReader.getAnnotationMetadata(), indexed.getValue())) {
+                    return Optional.empty();
+                }
+                if (isCandidateComponent(metadataReader)) {
+                    ScannedGenericBeanDefinition candidate = new ScannedGenericBeanDefinition(metadataReader);
+                    candidate.setSource(resource);
+                    if (isCandidateComponent(candidate)) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+        } catch (IOException _) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates);
+    }
+
+    private static boolean isStillAnnotated(AnnotationMetadata metadata, Set<String> stereotypes) {
+        return stereotypes.stream().anyMatch(metadata::isAnnotated);
+    }
+}
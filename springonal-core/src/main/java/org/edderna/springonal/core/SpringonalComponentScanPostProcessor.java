@@ -23,40 +23,94 @@ package org.edderna.springonal.core;
 import org.edderna.springonal.annotations.application.UseCase;
 import org.edderna.springonal.annotations.infrastructure.OutboundAdapter;
 import org.edderna.springonal.annotations.interfaces.InboundAdapter;
+import org.springframework.aot.AotDetector;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
-import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
-import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.ClassUtils;
 
+import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-public class SpringonalComponentScanPostProcessor implements BeanDefinitionRegistryPostProcessor {
+public class SpringonalComponentScanPostProcessor implements BeanDefinitionRegistryPostProcessor, ApplicationStartupAware,
+        EnvironmentAware {
 
-    private static final List<AnnotationTypeFilter> filters = List.of(
-            new AnnotationTypeFilter(UseCase.class),
-            new AnnotationTypeFilter(OutboundAdapter.class),
-            new AnnotationTypeFilter(InboundAdapter.class)
+    static final List<Class<? extends Annotation>> STEREOTYPES = List.of(
+            UseCase.class,
+            OutboundAdapter.class,
+            InboundAdapter.class
     );
 
+    private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+    private Environment environment;
+
+    private SpringonalScanReport scanReport;
+
     @Override
-    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
-        ClassPathBeanDefinitionScanner scanner = createScanner(registry);
-        resolveBasePackage(registry)
-                .orElseThrow(() -> new IllegalStateException("You must specify a main class in your application to use this feature"))
-                .forEach(scanner::scan);
+    public void setApplicationStartup(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
     }
 
-    private ClassPathBeanDefinitionScanner createScanner(BeanDefinitionRegistry registry) {
-        ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(registry);
-        filters.forEach(scanner::addIncludeFilter);
-        return scanner;
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    public Optional<SpringonalScanReport> getScanReport() {
+        return Optional.ofNullable(scanReport);
     }
 
-    private Optional<Set<String>> resolveBasePackage(BeanDefinitionRegistry registry) {
-        return MainClassResolver.findMainClass(registry)
-                .map(BasePackageResolver::resolveBasePackage);
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+        if (AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        SpringonalScanSelection selection = environment == null
+                ? SpringonalScanSelection.all()
+                : SpringonalScanSelection.from(environment, registry instanceof ConfigurableBeanFactory beanFactory
+                        ? beanFactory.getBeanClassLoader()
+                        : ClassUtils.getDefaultClassLoader());
+        SpringonalClassPathBeanDefinitionScanner scanner = createScanner(registry, selection);
+
+        long mainClassStart = System.nanoTime();
+        StartupStep mainClassStep = applicationStartup.start("springonal.main-class.resolve");
+        Optional<Class<?>> mainClass = MainClassResolver.findMainClass(registry);
+        mainClass.ifPresent(clazz -> mainClassStep.tag("main-class", clazz.getName()));
+        mainClassStep.end();
+        Duration mainClassResolution = Duration.ofNanos(System.nanoTime() - mainClassStart);
+
+        long basePackageStart = System.nanoTime();
+        StartupStep basePackageStep = applicationStartup.start("springonal.base-packages.resolve");
+        Optional<Set<String>> resolvedPackages = mainClass.map(BasePackageResolver::resolveBasePackage);
+        resolvedPackages.ifPresent(packages -> basePackageStep.tag("packages", String.join(",", packages)));
+        basePackageStep.end();
+        Duration basePackageResolution = Duration.ofNanos(System.nanoTime() - basePackageStart);
+
+        Set<String> basePackages = selection.basePackages(resolvedPackages
+                .orElseThrow(() -> new IllegalStateException("You must specify a main class in your application to use this feature")));
+        scanner.scan(basePackages.toArray(String[]::new));
+
+        scanReport = new SpringonalScanReport(mainClassResolution, basePackageResolution, scanner.getPackageScans());
+    }
+
+    private SpringonalClassPathBeanDefinitionScanner createScanner(BeanDefinitionRegistry registry,
+                                                                   SpringonalScanSelection selection) {
+        SpringonalClassPathBeanDefinitionScanner scanner = new SpringonalClassPathBeanDefinitionScanner(registry);
+        scanner.setApplicationStartup(applicationStartup);
+        scanner.setPruneUnreferenced(selection.isPruneUnreferenced());
+        scanner.setCandidateStereotypes(selection.includedStereotypes());
+        selection.includeFilters().forEach(scanner::addIncludeFilter);
+        selection.excludeFilters().forEach(scanner::addExcludeFilter);
+        return scanner;
     }
 }
@@ -0,0 +1,88 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.*;
+import java.util.stream.Collectors;
+
+final class SpringonalComponentsIndex {
+
+    static final String INDEX_LOCATION = "META-INF/springonal.components";
+
+    static final String IGNORE_INDEX_PROPERTY = "springonal.index.ignore";
+
+    private static final Map<ClassLoader, Optional<SpringonalComponentsIndex>> cache = new ConcurrentReferenceHashMap<>();
+
+    private final Map<String, Map<String, Set<String>>> stereotypesByRoot;
+
+    private SpringonalComponentsIndex(Map<String, Map<String, Set<String>>> stereotypesByRoot) {
+        this.stereotypesByRoot = stereotypesByRoot;
+    }
+
+    static Optional<SpringonalComponentsIndex> load(ClassLoader classLoader) {
+        if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+            return Optional.empty();
+        }
+        return cache.computeIfAbsent(classLoader, SpringonalComponentsIndex::doLoad);
+    }
+
+    private static Optional<SpringonalComponentsIndex> doLoad(ClassLoader classLoader) {
+        try {
+            Map<String, Map<String, Set<String>>> stereotypesByRoot = new LinkedHashMap<>();
+            for (URL url : Collections.list(classLoader.getResources(INDEX_LOCATION))) {
+                String location = url.toExternalForm();
+                Map<String, Set<String>> stereotypesByType = stereotypesByRoot.computeIfAbsent(
+                        location.substring(0, location.length() - INDEX_LOCATION.length()), _ -> new TreeMap<>());
+                Properties properties = PropertiesLoaderUtils.loadProperties(new UrlResource(url));
+                properties.forEach((type, stereotypes) -> stereotypesByType
+                        .computeIfAbsent((String) type, _ -> new TreeSet<>())
+                        .addAll(StringUtils.commaDelimitedListToSet((String) stereotypes)));
+            }
+            return stereotypesByRoot.isEmpty()
+                    ? Optional.empty()
+                    : Optional.of(new SpringonalComponentsIndex(stereotypesByRoot));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load Springonal index from location [" + INDEX_LOCATION + "]", e);
+        }
+    }
+
+    Set<String> getRoots() {
+        return stereotypesByRoot.keySet();
+    }
+
+    Optional<Map<String, Set<String>>> getCandidateTypes(String root, String basePackage) {
+        return Optional.ofNullable(stereotypesByRoot.get(root)).map(stereotypesByType -> stereotypesByType.entrySet().stream()
+                .filter(entry -> isInPackage(entry.getKey(), basePackage))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, _) -> a, TreeMap::new)));
+    }
+
+    private static boolean isInPackage(String type, String basePackage) {
+        return basePackage.isEmpty() || type.startsWith(basePackage + ".");
+    }
+}
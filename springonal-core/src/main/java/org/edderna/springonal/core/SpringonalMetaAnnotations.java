@@ -0,0 +1,93 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.core.io.UrlResource;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class SpringonalMetaAnnotations {
+
+    private static final Map<ClassLoader, SpringonalMetaAnnotations> cache = new ConcurrentReferenceHashMap<>();
+
+    private final ClassLoader classLoader;
+
+    private final Map<String, Set<String>> closures = new ConcurrentHashMap<>();
+
+    private SpringonalMetaAnnotations(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    static SpringonalMetaAnnotations forClassLoader(ClassLoader classLoader) {
+        return cache.computeIfAbsent(classLoader, SpringonalMetaAnnotations::new);
+    }
+
+    boolean isAnnotated(List<String> annotationTypes, Collection<String> stereotypes) {
+        for (String annotationType : annotationTypes) {
+            Set<String> closure = closure(annotationType);
+            for (String stereotype : stereotypes) {
+                if (closure.contains(stereotype)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    Set<String> closure(String annotationType) {
+        Set<String> closure = closures.get(annotationType);
+        if (closure == null) {
+            closure = Collections.unmodifiableSet(resolve(annotationType, new HashSet<>()));
+            closures.putIfAbsent(annotationType, closure);
+        }
+        return closure;
+    }
+
+    private Set<String> resolve(String annotationType, Set<String> visiting) {
+        Set<String> cached = closures.get(annotationType);
+        if (cached != null) {
+            return cached;
+        }
+        Set<String> closure = new HashSet<>();
+        closure.add(annotationType);
+        if (annotationType.startsWith("java.lang.annotation.") || !visiting.add(annotationType)) {
+            return closure;
+        }
+        URL url = classLoader.getResource(ClassUtils.convertClassNameToResourcePath(annotationType) + ClassUtils.CLASS_FILE_SUFFIX);
+        if (url == null) {
+            return closure;
+        }
+        try {
+            SpringonalClassFileReader.read(new UrlResource(url))
+                    .map(SpringonalClassFileReader.AnnotatedClass::annotationTypes)
+                    .orElse(List.of())
+                    .forEach(metaAnnotation -> closure.addAll(resolve(metaAnnotation, visiting)));
+        } catch (IOException _) {
+            return closure;
+        }
+        return closure;
+    }
+}
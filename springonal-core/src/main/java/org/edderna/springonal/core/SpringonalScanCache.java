@@ -0,0 +1,246 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+final class SpringonalScanCache {
+
+    static final String ENABLED_PROPERTY = "springonal.scan.cache.enabled";
+
+    static final String CACHE_DIRECTORY_PROPERTY = "springonal.scan.cache.dir";
+
+    private static final String FINGERPRINT_KEY = "springonal.fingerprint";
+
+    private static final String FORMAT_VERSION = "1";
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private static final Map<ClassLoader, Map<String, Map<String, Set<String>>>> memory = new ConcurrentReferenceHashMap<>();
+
+    private final Path directory;
+
+    private Boolean usable;
+
+    SpringonalScanCache(Path directory) {
+        this.directory = directory;
+    }
+
+    static Optional<SpringonalScanCache> get() {
+        if (!SpringProperties.getFlag(ENABLED_PROPERTY)) {
+            return Optional.empty();
+        }
+        String configured = SpringProperties.getProperty(CACHE_DIRECTORY_PROPERTY);
+        return Optional.of(new SpringonalScanCache(StringUtils.hasText(configured)
+                ? Path.of(configured)
+                : userCacheDirectory().resolve("springonal").resolve("scan-cache")));
+    }
+
+    private static Path userCacheDirectory() {
+        String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+        return StringUtils.hasText(xdgCacheHome)
+                ? Path.of(xdgCacheHome)
+                : Path.of(System.getProperty("user.home"), ".cache");
+    }
+
+    static void clearMemory() {
+        memory.clear();
+    }
+
+    Map<String, Set<String>> candidates(ClassLoader classLoader, String scope, String basePackage,
+                                        RootScanner scanner) throws IOException {
+        Map<String, Map<String, Set<String>>> classLoaderCache = memory.computeIfAbsent(classLoader,
+                _ -> new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.SOFT));
+        String key = scope + "|" + basePackage;
+        Map<String, Set<String>> cached = classLoaderCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, Set<String>> candidates = new TreeMap<>();
+        String packagePath = basePackage.replace('.', '/') + "/";
+        for (URL root : Collections.list(classLoader.getResources(packagePath))) {
+            candidates.putAll(rootCandidates(root, scope, scanner));
+        }
+        Map<String, Set<String>> result = Collections.unmodifiableMap(candidates);
+        classLoaderCache.put(key, result);
+        return result;
+    }
+
+    void invalidate(ClassLoader classLoader, String scope, String basePackage) {
+        Optional.ofNullable(memory.get(classLoader)).ifPresent(cache -> cache.remove(scope + "|" + basePackage));
+    }
+
+    private Map<String, Set<String>> rootCandidates(URL root, String scope, RootScanner scanner) throws IOException {
+        String fingerprint = fingerprint(root);
+        if (fingerprint == null || !isUsable()) {
+            return scanner.scan(root);
+        }
+        Path entry = directory.resolve(hash(FORMAT_VERSION + "\n" + scope + "\n" + root) + ".properties");
+        Optional<Map<String, Set<String>>> stored = read(entry, fingerprint);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        Map<String, Set<String>> scanned = scanner.scan(root);
+        write(entry, fingerprint, scanned);
+        return scanned;
+    }
+
+    private boolean isUsable() {
+        if (usable == null) {
+            usable = isPrivate(directory);
+        }
+        return usable;
+    }
+
+    static boolean isPrivate(Path directory) {
+        try {
+            if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectories(directory);
+                return true;
+            }
+            if (Files.notExists(directory)) {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+            }
+            PosixFileAttributes attributes = Files.readAttributes(directory, PosixFileAttributes.class);
+            return attributes.isDirectory()
+                    && attributes.owner().getName().equals(System.getProperty("user.name"))
+                    && OWNER_ONLY.containsAll(attributes.permissions());
+        } catch (IOException | UnsupportedOperationException _) {
+            return false;
+        }
+    }
+
+    private static Optional<Map<String, Set<String>>> read(Path entry, String fingerprint) {
+        if (!Files.isRegularFile(entry)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(entry)) {
+            properties.load(in);
+        } catch (IOException | IllegalArgumentException _) {
+            return Optional.empty();
+        }
+        if (!fingerprint.equals(properties.getProperty(FINGERPRINT_KEY))) {
+            return Optional.empty();
+        }
+        Map<String, Set<String>> candidates = new TreeMap<>();
+        properties.stringPropertyNames().stream()
+                .filter(name -> !name.equals(FINGERPRINT_KEY))
+                .forEach(name -> candidates.put(name,
+                        new TreeSet<>(StringUtils.commaDelimitedListToSet(properties.getProperty(name)))));
+        return Optional.of(candidates);
+    }
+
+    private static void write(Path entry, String fingerprint, Map<String, Set<String>> candidates) {
+        Properties properties = new Properties();
+        properties.setProperty(FINGERPRINT_KEY, fingerprint);
+        candidates.forEach((type, stereotypes) ->
+                properties.setProperty(type, StringUtils.collectionToCommaDelimitedString(stereotypes)));
+        try {
+            Path temporary = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                properties.store(out, null);
+            }
+            Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException _) {
+            // An unwritable cache directory only costs the next startup a rescan.
+        }
+    }
+
+    static String fingerprint(URL root) throws IOException {
+        try {
+            if (ResourceUtils.isFileURL(root)) {
+                return directoryFingerprint(Path.of(root.toURI()));
+            }
+            if (ResourceUtils.isJarURL(root)) {
+                URL archive = ResourceUtils.extractArchiveURL(root);
+                if (ResourceUtils.isFileURL(archive)) {
+                    Path jar = Path.of(archive.toURI());
+                    BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+                    return hash(jar + "|" + attributes.size() + "|" + attributes.lastModifiedTime().toMillis());
+                }
+            }
+        } catch (URISyntaxException _) {
+            return null;
+        }
+        return null;
+    }
+
+    private static String directoryFingerprint(Path directory) throws IOException {
+        MessageDigest digest = sha256();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(file -> file.toString().endsWith(".class"))
+                    .sorted()
+                    .forEach(file -> {
+                        try {
+                            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                            digest.update((directory.relativize(file) + "|" + attributes.size() + "|"
+                                    + attributes.lastModifiedTime().toMillis() + "\n").getBytes(StandardCharsets.UTF_8));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String hash(String value) {
+        return HexFormat.of().formatHex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface RootScanner {
+
+        Map<String, Set<String>> scan(URL root) throws IOException;
+    }
+}
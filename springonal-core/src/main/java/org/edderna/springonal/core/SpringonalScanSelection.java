@@ -0,0 +1,175 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+final class SpringonalScanSelection {
+
+    static final String PREFIX = "springonal.scan.";
+
+    private static final List<String> ANNOTATION_PACKAGES = List.of(
+            "org.edderna.springonal.annotations.application",
+            "org.edderna.springonal.annotations.infrastructure",
+            "org.edderna.springonal.annotations.interfaces",
+            "org.edderna.springonal.annotations.domain"
+    );
+
+    private static final SpringonalScanSelection ALL = new SpringonalScanSelection(
+            SpringonalComponentScanPostProcessor.STEREOTYPES, List.of(), List.of(), List.of(), false);
+
+    private final List<Class<? extends Annotation>> includedStereotypes;
+
+    private final List<Class<? extends Annotation>> excludedStereotypes;
+
+    private final List<String> includedPackages;
+
+    private final List<String> excludedPackages;
+
+    private final boolean pruneUnreferenced;
+
+    private SpringonalScanSelection(List<Class<? extends Annotation>> includedStereotypes,
+                                    List<Class<? extends Annotation>> excludedStereotypes,
+                                    List<String> includedPackages, List<String> excludedPackages,
+                                    boolean pruneUnreferenced) {
+        this.includedStereotypes = includedStereotypes;
+        this.excludedStereotypes = excludedStereotypes;
+        this.includedPackages = includedPackages;
+        this.excludedPackages = excludedPackages;
+        this.pruneUnreferenced = pruneUnreferenced;
+    }
+
+    static SpringonalScanSelection all() {
+        return ALL;
+    }
+
+    static SpringonalScanSelection from(Environment environment, ClassLoader classLoader) {
+        List<Class<? extends Annotation>> included = stereotypes(values(environment, "include-stereotypes"), classLoader);
+        return new SpringonalScanSelection(
+                included.isEmpty() ? SpringonalComponentScanPostProcessor.STEREOTYPES : included,
+                stereotypes(values(environment, "exclude-stereotypes"), classLoader),
+                values(environment, "include-packages"),
+                values(environment, "exclude-packages"),
+                environment.getProperty(PREFIX + "prune-unreferenced", Boolean.class, false));
+    }
+
+    List<Class<? extends Annotation>> includedStereotypes() {
+        return includedStereotypes;
+    }
+
+    List<TypeFilter> includeFilters() {
+        return includedStereotypes.stream()
+                .<TypeFilter>map(AnnotationTypeFilter::new)
+                .toList();
+    }
+
+    List<TypeFilter> excludeFilters() {
+        List<TypeFilter> filters = new ArrayList<>();
+        excludedStereotypes.forEach(stereotype -> filters.add(new AnnotationTypeFilter(stereotype)));
+        if (!includedPackages.isEmpty() || !excludedPackages.isEmpty()) {
+            filters.add((metadataReader, _) -> !isSelected(metadataReader.getClassMetadata().getClassName()));
+        }
+        return filters;
+    }
+
+    Set<String> basePackages(Set<String> basePackages) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String basePackage : basePackages) {
+            if (excludedPackages.stream().anyMatch(excluded -> isWithin(basePackage, excluded))) {
+                continue;
+            }
+            if (includedPackages.isEmpty() || includedPackages.stream().anyMatch(included -> isWithin(basePackage, included))) {
+                selected.add(basePackage);
+            } else {
+                includedPackages.stream()
+                        .filter(included -> isWithin(included, basePackage))
+                        .forEach(selected::add);
+            }
+        }
+        return selected;
+    }
+
+    boolean isPruneUnreferenced() {
+        return pruneUnreferenced;
+    }
+
+    private boolean isSelected(String className) {
+        return excludedPackages.stream().noneMatch(excluded -> isWithin(className, excluded))
+                && (includedPackages.isEmpty() || includedPackages.stream().anyMatch(included -> isWithin(className, included)));
+    }
+
+    private static boolean isWithin(String name, String packageName) {
+        return name.equals(packageName) || name.startsWith(packageName + ".");
+    }
+
+    private static List<String> values(Environment environment, String name) {
+        String key = PREFIX + name;
+        List<String> values = new ArrayList<>();
+        String[] delimited = environment.getProperty(key, String[].class);
+        if (delimited != null) {
+            values.addAll(List.of(delimited));
+        }
+        for (int i = 0; environment.containsProperty(key + "[" + i + "]"); i++) {
+            values.add(environment.getProperty(key + "[" + i + "]"));
+        }
+        return values.stream()
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Class<? extends Annotation>> stereotypes(List<String> names, ClassLoader classLoader) {
+        List<Class<? extends Annotation>> stereotypes = new ArrayList<>();
+        for (String name : names) {
+            Class<?> type = resolve(name, classLoader);
+            if (!type.isAnnotation() || SpringonalComponentScanPostProcessor.STEREOTYPES.stream()
+                    .noneMatch(stereotype -> stereotype == type || AnnotatedElementUtils.hasAnnotation(type, stereotype))) {
+                throw new IllegalStateException(name + " configured under " + PREFIX + " is not a Springonal stereotype");
+            }
+            stereotypes.add((Class<? extends Annotation>) type);
+        }
+        return stereotypes;
+    }
+
+    private static Class<?> resolve(String name, ClassLoader classLoader) {
+        List<String> candidates = name.contains(".")
+                ? List.of(name)
+                : ANNOTATION_PACKAGES.stream().map(annotationPackage -> annotationPackage + "." + name).toList();
+        for (String candidate : candidates) {
+            if (ClassUtils.isPresent(candidate, classLoader)) {
+                return ClassUtils.resolveClassName(candidate, classLoader);
+            }
+        }
+        throw new IllegalStateException("Unknown stereotype " + name + " configured under " + PREFIX);
+    }
+}
@@ -0,0 +1,185 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ValueObjectPool<T> {
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+
+    private static final int REFERENCE_BYTES = 4;
+
+    private final Class<T> type;
+
+    private final long instanceBytes;
+
+    private final ConcurrentMap<Object, WeakKey<T>> instances = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    ValueObjectPool(Class<T> type) {
+        this.type = type;
+        this.instanceBytes = shallowSize(type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        WeakKey<T> existing = instances.get(new LookupKey(value));
+        T canonical = existing != null ? existing.get() : null;
+        if (canonical != null) {
+            hits.increment();
+            return canonical;
+        }
+        expungeCollected();
+        WeakKey<T> key = new WeakKey<>(value, collected);
+        while (true) {
+            existing = instances.putIfAbsent(key, key);
+            if (existing == null) {
+                misses.increment();
+                return value;
+            }
+            canonical = existing.get();
+            if (canonical != null) {
+                hits.increment();
+                return canonical;
+            }
+            instances.remove(existing, existing);
+        }
+    }
+
+    public Statistics getStatistics() {
+        long hitCount = hits.sum();
+        return new Statistics(instances.size(), hitCount, misses.sum(), hitCount * instanceBytes);
+    }
+
+    private void expungeCollected() {
+        Object reference;
+        while ((reference = collected.poll()) != null) {
+            instances.remove(reference, reference);
+        }
+    }
+
+    private static long shallowSize(Class<?> type) {
+        long size = OBJECT_HEADER_BYTES;
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += fieldSize(field.getType());
+                }
+            }
+        }
+        return (size + 7) & ~7;
+    }
+
+    private static int fieldSize(Class<?> fieldType) {
+        if (fieldType == long.class || fieldType == double.class) {
+            return 8;
+        }
+        if (fieldType == int.class || fieldType == float.class) {
+            return 4;
+        }
+        if (fieldType == short.class || fieldType == char.class) {
+            return 2;
+        }
+        if (fieldType == byte.class || fieldType == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    public record Statistics(int size, long hits, long misses, long estimatedBytesSaved) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private static final class WeakKey<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        private WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.hash = value.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            Object value = get();
+            if (value == null) {
+                return false;
+            }
+            if (other instanceof WeakKey<?> key) {
+                return value.equals(key.get());
+            }
+            return other instanceof LookupKey lookup && value.equals(lookup.value);
+        }
+    }
+
+    private static final class LookupKey {
+
+        private final Object value;
+
+        private LookupKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other instanceof WeakKey<?> key) {
+                return Objects.equals(value, key.get());
+            }
+            return other instanceof LookupKey lookup && value.equals(lookup.value);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.domain.ValueObject;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public final class ValueObjects {
+
+    private static final ConcurrentMap<Class<?>, ValueObjectPool<?>> pools = new ConcurrentHashMap<>();
+
+    private static final List<Consumer<ValueObjectPool<?>>> listeners = new CopyOnWriteArrayList<>();
+
+    private static final ClassValue<Optional<ValueObjectPool<?>>> poolsByType = new ClassValue<>() {
+        @Override
+        protected Optional<ValueObjectPool<?>> computeValue(Class<?> type) {
+            ValueObject valueObject = AnnotatedElementUtils.findMergedAnnotation(type, ValueObject.class);
+            if (valueObject == null || !valueObject.intern()) {
+                return Optional.empty();
+            }
+            return Optional.of(pools.computeIfAbsent(type, ValueObjects::createPool));
+        }
+    };
+
+    private ValueObjects() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        return poolsByType.get(value.getClass())
+                .map(pool -> ((ValueObjectPool<T>) pool).intern(value))
+                .orElse(value);
+    }
+
+    public static boolean isInterned(Class<?> type) {
+        return poolsByType.get(type).isPresent();
+    }
+
+    public static List<ValueObjectPool<?>> getPools() {
+        return List.copyOf(pools.values());
+    }
+
+    public static Registration onPoolCreated(Consumer<ValueObjectPool<?>> listener) {
+        listeners.add(listener);
+        pools.values().forEach(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    private static ValueObjectPool<?> createPool(Class<?> type) {
+        ValueObjectPool<?> pool = new ValueObjectPool<>(type);
+        listeners.forEach(listener -> listener.accept(pool));
+        return pool;
+    }
+
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.ComponentScans;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -78,6 +79,23 @@ class BasePackageResolverTest {
         assertThat(packages).hasSameSizeAs(Set.copyOf(packages)); // mismo tamaño que el conjunto → sin duplicados
     }
 
+    @Test
+    void shouldCollapseNestedPackagesIntoTheirRoots() {
+        Set<String> packages = BasePackageResolver.resolveBasePackage(NestedPackages.class);
+
+        assertThat(packages)
+                .containsExactly(
+                        "com.example",
+                        "com.examples",
+                        "org.edderna.springonal.core"
+                );
+    }
+
+    @Test
+    void shouldCollapseEverythingUnderDefaultPackage() {
+        assertThat(BasePackageResolver.collapseToRoots(List.of("com.example", "", "org.example")))
+                .containsExactly("");
+    }
 
     @ComponentScan(basePackages = {"com.example.pkg1", "com.example.pkg2"})
     static class SingleComponentScanBasePackages {
@@ -102,6 +120,10 @@ class BasePackageResolverTest {
     static class DuplicatePackages {
     }
 
+    @ComponentScan(basePackages = {"com.example.orders", "com.example", "com.example.orders.api", "com.examples"})
+    static class NestedPackages {
+    }
+
     static class DummyClassA {
     }
 
@@ -21,8 +21,12 @@ package org.edderna.springonal.core;
  */
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Configuration;
 
 import java.util.Optional;
 
@@ -47,6 +51,21 @@ class MainClassResolverTest {
         public void main(String[] args) {}
     }
 
+    @Configuration
+    static class ConfigurationMainClass {
+        public static void main(String[] args) {}
+    }
+
+    static class InitializationTracker {
+        static boolean initialized;
+    }
+
+    static class EagerlyInitializedClass {
+        static {
+            InitializationTracker.initialized = true;
+        }
+    }
+
     @Test
     void shouldFindValidArgsMainClass() {
         BeanDefinitionRegistry registry = mock(BeanDefinitionRegistry.class);
@@ -131,4 +150,37 @@ class MainClassResolverTest {
 
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void shouldPreferAnnotatedConfigurationCandidates() {
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        registry.registerBeanDefinition("plain", new RootBeanDefinition(ValidArgsMainClass.class.getName()));
+        registry.registerBeanDefinition("application", new AnnotatedGenericBeanDefinition(ConfigurationMainClass.class));
+
+        Optional<Class<?>> result = MainClassResolver.findMainClass(registry);
+
+        assertThat(result).contains(ConfigurationMainClass.class);
+    }
+
+    @Test
+    void shouldNotInitializeCandidatesWhileInspectingThem() {
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        registry.registerBeanDefinition("eager", new RootBeanDefinition(EagerlyInitializedClass.class.getName()));
+        registry.registerBeanDefinition("main", new RootBeanDefinition(ValidArgsMainClass.class.getName()));
+
+        Optional<Class<?>> result = MainClassResolver.findMainClass(registry);
+
+        assertThat(result).contains(ValidArgsMainClass.class);
+        assertThat(InitializationTracker.initialized).isFalse();
+    }
+
+    @Test
+    void shouldSkipInfrastructureBeans() {
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        RootBeanDefinition infrastructure = new RootBeanDefinition(ValidArgsMainClass.class.getName());
+        infrastructure.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+        registry.registerBeanDefinition("infrastructure", infrastructure);
+
+        assertThat(MainClassResolver.findMainClass(registry)).isEmpty();
+    }
 }
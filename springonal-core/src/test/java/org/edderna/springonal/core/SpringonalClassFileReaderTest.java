@@ -0,0 +1,102 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.interfaces.InboundAdapter;
+import org.edderna.springonal.annotations.interfaces.IndoundRestAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringonalClassFileReaderTest {
+
+    @Test
+    void shouldReadClassNameAndRuntimeVisibleAnnotations() throws IOException {
+        Optional<SpringonalClassFileReader.AnnotatedClass> annotatedClass = SpringonalClassFileReader.read(resource(Annotated.class));
+
+        assertThat(annotatedClass).hasValueSatisfying(value -> {
+            assertThat(value.className()).isEqualTo(Annotated.class.getName());
+            assertThat(value.annotationTypes()).containsExactly(Deprecated.class.getName(), Tagged.class.getName(), UseCase.class.getName());
+        });
+    }
+
+    @Test
+    void shouldReadClassesWithoutAnnotations() throws IOException {
+        Optional<SpringonalClassFileReader.AnnotatedClass> annotatedClass = SpringonalClassFileReader.read(resource(Plain.class));
+
+        assertThat(annotatedClass).hasValueSatisfying(value -> assertThat(value.annotationTypes()).isEmpty());
+    }
+
+    @Test
+    void shouldGiveUpOnMalformedClassFiles() {
+        assertThat(SpringonalClassFileReader.read(ByteBuffer.wrap(new byte[]{(byte) 0xCA, (byte) 0xFE}))).isEmpty();
+        assertThat(SpringonalClassFileReader.read(ByteBuffer.wrap(new byte[]{0, 0, 0, 0, 0, 0, 0, 0}))).isEmpty();
+    }
+
+    @Test
+    void shouldResolveMetaAnnotationChains() {
+        SpringonalMetaAnnotations metaAnnotations = SpringonalMetaAnnotations.forClassLoader(getClass().getClassLoader());
+
+        assertThat(metaAnnotations.closure(IndoundRestAdapter.class.getName())).contains(InboundAdapter.class.getName());
+        assertThat(metaAnnotations.isAnnotated(List.of(Tagged.class.getName()), List.of(InboundAdapter.class.getName()))).isFalse();
+        assertThat(metaAnnotations.isAnnotated(List.of(Tagged.class.getName(), IndoundRestAdapter.class.getName()),
+                List.of(InboundAdapter.class.getName()))).isTrue();
+    }
+
+    private static ClassPathResource resource(Class<?> type) {
+        return new ClassPathResource(ClassUtils.convertClassNameToResourcePath(type.getName()) + ClassUtils.CLASS_FILE_SUFFIX);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Tagged {
+
+        String[] value() default {};
+
+        RetentionPolicy policy() default RetentionPolicy.RUNTIME;
+
+        Class<?> type() default Object.class;
+    }
+
+    @Deprecated
+    @Tagged(value = {"a", "b"}, policy = RetentionPolicy.CLASS, type = String.class)
+    @UseCase
+    static class Annotated {
+
+        private final int value = 42;
+
+        int value() {
+            return value;
+        }
+    }
+
+    static class Plain {
+    }
+}
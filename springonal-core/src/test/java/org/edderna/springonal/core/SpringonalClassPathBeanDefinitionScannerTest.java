@@ -0,0 +1,296 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundAdapter;
+import org.edderna.springonal.annotations.interfaces.InboundAdapter;
+import org.edderna.springonal.annotations.interfaces.IndoundRestAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.SpringProperties;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringonalClassPathBeanDefinitionScannerTest {
+
+    private static final String BASE_PACKAGE = "org.edderna.springonal.core";
+
+    private static final String INDEXED_PACKAGE = "com.example.indexed";
+
+    @TempDir
+    Path classpathRoot;
+
+    private final List<URLClassLoader> classLoaders = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        SpringProperties.setProperty(SpringonalScanCache.ENABLED_PROPERTY, null);
+        SpringProperties.setProperty(SpringonalScanCache.CACHE_DIRECTORY_PROPERTY, null);
+        SpringonalScanCache.clearMemory();
+        for (URLClassLoader classLoader : classLoaders) {
+            classLoader.close();
+        }
+    }
+
+    @Test
+    void shouldUseIndexedCandidatesWhenIndexIsPresent() throws IOException {
+        writeClass(indexedRoot(), INDEXED_PACKAGE + ".IndexedUseCase", UseCase.class);
+        writeClass(indexedRoot(), INDEXED_PACKAGE + ".UnlistedUseCase", UseCase.class);
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                INDEXED_PACKAGE + ".IndexedUseCase=" + UseCase.class.getName());
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(INDEXED_PACKAGE);
+
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .containsExactly(INDEXED_PACKAGE + ".IndexedUseCase");
+    }
+
+    @Test
+    void shouldScanClasspathRootsWithoutIndex() throws IOException {
+        writeClass(indexedRoot(), INDEXED_PACKAGE + ".IndexedUseCase", UseCase.class);
+        writeClass(unindexedRoot(), INDEXED_PACKAGE + ".ScannedUseCase", UseCase.class);
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                INDEXED_PACKAGE + ".IndexedUseCase=" + UseCase.class.getName());
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(INDEXED_PACKAGE);
+
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .containsExactlyInAnyOrder(INDEXED_PACKAGE + ".IndexedUseCase", INDEXED_PACKAGE + ".ScannedUseCase");
+    }
+
+    @Test
+    void shouldIgnoreIndexedCandidatesOutsideBasePackage() throws IOException {
+        writeClass(indexedRoot(), INDEXED_PACKAGE + ".IndexedUseCase", UseCase.class);
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                INDEXED_PACKAGE + ".IndexedUseCase=" + UseCase.class.getName());
+
+        assertThat(scanner.findCandidateComponents("com.example.other")).isEmpty();
+    }
+
+    @Test
+    void shouldMatchIndexedCandidatesInDefaultPackage() throws IOException {
+        writeClass(indexedRoot(), "DefaultPackageUseCase", UseCase.class);
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                "DefaultPackageUseCase=" + UseCase.class.getName());
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents("");
+
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .contains("DefaultPackageUseCase", IndexedUseCase.class.getName());
+    }
+
+    @Test
+    void shouldFallBackToScanningWhenIndexedClassIsMissing() throws IOException {
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                BASE_PACKAGE + ".DoesNotExist=" + UseCase.class.getName());
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(BASE_PACKAGE);
+
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .contains(IndexedUseCase.class.getName(), IndexedRestAdapter.class.getName());
+    }
+
+    @Test
+    void shouldFallBackToScanningWhenIndexedClassLostItsStereotype() throws IOException {
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                NoLongerAnnotated.class.getName() + "=" + UseCase.class.getName());
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(BASE_PACKAGE);
+
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .contains(IndexedUseCase.class.getName(), IndexedRestAdapter.class.getName())
+                .doesNotContain(NoLongerAnnotated.class.getName());
+    }
+
+    @Test
+    void shouldMatchMetaAnnotatedCandidatesFromIndex() throws IOException {
+        writeClass(indexedRoot(), INDEXED_PACKAGE + ".IndexedRestAdapter", IndoundRestAdapter.class);
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                INDEXED_PACKAGE + ".IndexedRestAdapter=" + InboundAdapter.class.getName());
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(INDEXED_PACKAGE);
+
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .containsExactly(INDEXED_PACKAGE + ".IndexedRestAdapter");
+    }
+
+    @Test
+    void shouldRegisterCandidatesOfEveryBasePackage() throws IOException {
+        writeClass(indexedRoot(), INDEXED_PACKAGE + ".IndexedUseCase", UseCase.class);
+        writeClass(indexedRoot(), INDEXED_PACKAGE + ".IndexedRestAdapter", IndoundRestAdapter.class);
+        writeClass(unindexedRoot(), "com.example.other.ScannedUseCase", UseCase.class);
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(registry,
+                INDEXED_PACKAGE + ".IndexedUseCase=" + UseCase.class.getName(),
+                INDEXED_PACKAGE + ".IndexedRestAdapter=" + InboundAdapter.class.getName());
+
+        int registered = scanner.scan(INDEXED_PACKAGE, "com.example.other", "com.example.another");
+
+        assertThat(registered).isEqualTo(3);
+        assertThat(registry.getBeanDefinitionNames())
+                .containsExactly("indexedRestAdapter", "indexedUseCase", "scannedUseCase");
+    }
+
+    @Test
+    void shouldPrefilterClassFilesByCandidateStereotypes() throws IOException {
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                BASE_PACKAGE + ".DoesNotExist=" + UseCase.class.getName());
+        scanner.setCandidateStereotypes(SpringonalComponentScanPostProcessor.STEREOTYPES);
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(BASE_PACKAGE);
+
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .contains(IndexedUseCase.class.getName(), IndexedRestAdapter.class.getName())
+                .doesNotContain(NoLongerAnnotated.class.getName());
+    }
+
+    @Test
+    void shouldPrefilterUnindexedRootsWithScanCacheDisabled() throws IOException {
+        writeClass(unindexedRoot(), "com.example.prefiltered.ScannedUseCase", UseCase.class);
+        writeClass(unindexedRoot(), "com.example.prefiltered.LegacyHelper", Legacy.class);
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                INDEXED_PACKAGE + ".IndexedUseCase=" + UseCase.class.getName());
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Legacy.class));
+        scanner.setCandidateStereotypes(SpringonalComponentScanPostProcessor.STEREOTYPES);
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents("com.example.prefiltered");
+
+        assertThat(SpringonalScanCache.get()).isEmpty();
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .containsExactly("com.example.prefiltered.ScannedUseCase");
+    }
+
+    @Test
+    void shouldStoreFallbackScanInCacheWhenEnabled() throws IOException {
+        Path cacheDirectory = classpathRoot.resolve("cache");
+        SpringProperties.setFlag(SpringonalScanCache.ENABLED_PROPERTY);
+        SpringProperties.setProperty(SpringonalScanCache.CACHE_DIRECTORY_PROPERTY, cacheDirectory.toString());
+        SpringonalClassPathBeanDefinitionScanner scanner = scannerWithIndex(
+                BASE_PACKAGE + ".DoesNotExist=" + UseCase.class.getName());
+
+        Set<BeanDefinition> candidates = scanner.findCandidateComponents(BASE_PACKAGE);
+
+        assertThat(candidates)
+                .extracting(BeanDefinition::getBeanClassName)
+                .contains(IndexedUseCase.class.getName(), IndexedRestAdapter.class.getName())
+                .doesNotContain(NoLongerAnnotated.class.getName());
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            assertThat(entries).isNotEmpty();
+        }
+    }
+
+    private SpringonalClassPathBeanDefinitionScanner scannerWithIndex(String... entries) throws IOException {
+        return scannerWithIndex(new DefaultListableBeanFactory(), entries);
+    }
+
+    private SpringonalClassPathBeanDefinitionScanner scannerWithIndex(DefaultListableBeanFactory registry, String... entries) throws IOException {
+        Path index = indexedRoot().resolve(SpringonalComponentsIndex.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, List.of(entries));
+
+        URLClassLoader classLoader = new URLClassLoader(
+                new URL[]{indexedRoot().toUri().toURL(), unindexedRoot().toUri().toURL()}, getClass().getClassLoader());
+        classLoaders.add(classLoader);
+
+        SpringonalClassPathBeanDefinitionScanner scanner =
+                new SpringonalClassPathBeanDefinitionScanner(registry);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.resetFilters(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(UseCase.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(OutboundAdapter.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(InboundAdapter.class));
+        scanner.setIncludeAnnotationConfig(false);
+        return scanner;
+    }
+
+    private Path indexedRoot() throws IOException {
+        return Files.createDirectories(classpathRoot.resolve("indexed"));
+    }
+
+    private Path unindexedRoot() throws IOException {
+        return Files.createDirectories(classpathRoot.resolve("unindexed"));
+    }
+
+    private static void writeClass(Path root, String className, Class<? extends Annotation> stereotype) throws IOException {
+        String internalName = ClassUtils.convertClassNameToResourcePath(className);
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, "java/lang/Object", null);
+        writer.visitAnnotation(Type.getDescriptor(stereotype), true).visitEnd();
+        MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(1, 1);
+        constructor.visitEnd();
+        writer.visitEnd();
+        Path classFile = root.resolve(internalName + ClassUtils.CLASS_FILE_SUFFIX);
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, writer.toByteArray());
+    }
+
+    @UseCase
+    static class IndexedUseCase {
+    }
+
+    @IndoundRestAdapter
+    static class IndexedRestAdapter {
+    }
+
+    static class NoLongerAnnotated {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Legacy {
+    }
+}
@@ -28,12 +28,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
+import org.springframework.aot.AotDetector;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 
 import java.util.Optional;
@@ -42,6 +46,7 @@ import java.util.Set;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 class SpringonalComponentScanPostProcessorTest {
@@ -65,8 +70,8 @@ class SpringonalComponentScanPostProcessorTest {
         when(registry.getBeanDefinition("testMainClass")).thenReturn(beanDefinition);
         when(beanDefinition.getBeanClassName()).thenReturn(TestMainClass.class.getName());
 
-        try (MockedConstruction<ClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
-                ClassPathBeanDefinitionScanner.class,
+        try (MockedConstruction<SpringonalClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
+                SpringonalClassPathBeanDefinitionScanner.class,
                 (mock, context) -> {
                     when(mock.scan(any(String.class))).thenReturn(3);
                 })) {
@@ -98,8 +103,8 @@ class SpringonalComponentScanPostProcessorTest {
 
         ArgumentCaptor<AnnotationTypeFilter> filterCaptor = ArgumentCaptor.forClass(AnnotationTypeFilter.class);
 
-        try (MockedConstruction<ClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
-                ClassPathBeanDefinitionScanner.class)) {
+        try (MockedConstruction<SpringonalClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
+                SpringonalClassPathBeanDefinitionScanner.class)) {
 
             // When
             processor.postProcessBeanDefinitionRegistry(registry);
@@ -156,23 +161,18 @@ class SpringonalComponentScanPostProcessorTest {
         when(registry.getBeanDefinition("testMainClassWithComponentScan")).thenReturn(beanDefinition);
         when(beanDefinition.getBeanClassName()).thenReturn(TestMainClassWithComponentScan.class.getName());
 
-        ArgumentCaptor<String> packageCaptor = ArgumentCaptor.forClass(String.class);
-
-        try (MockedConstruction<ClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
-                ClassPathBeanDefinitionScanner.class)) {
+        try (MockedConstruction<SpringonalClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
+                SpringonalClassPathBeanDefinitionScanner.class)) {
 
             // When
             processor.postProcessBeanDefinitionRegistry(registry);
 
             // Then
             ClassPathBeanDefinitionScanner scanner = scannerMock.constructed().get(0);
-            verify(scanner, times(2)).scan(packageCaptor.capture());
-            
-            assertThat(packageCaptor.getAllValues())
-                    .containsExactlyInAnyOrder(
-                            "org.edderna.springonal.core",
-                            "com.example.additional"
-                    );
+            verify(scanner).scan(
+                    "com.example.additional",
+                    "org.edderna.springonal.core"
+            );
         }
     }
 
@@ -189,8 +189,8 @@ class SpringonalComponentScanPostProcessorTest {
         when(validBeanDefinition.getBeanClassName()).thenReturn(TestMainClass.class.getName());
         when(nullBeanDefinition.getBeanClassName()).thenReturn(null);
 
-        try (MockedConstruction<ClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
-                ClassPathBeanDefinitionScanner.class)) {
+        try (MockedConstruction<SpringonalClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
+                SpringonalClassPathBeanDefinitionScanner.class)) {
 
             // When
             processor.postProcessBeanDefinitionRegistry(registry);
@@ -202,6 +202,58 @@ class SpringonalComponentScanPostProcessorTest {
         }
     }
 
+    @Test
+    void shouldSkipScanningWhenRunningWithGeneratedArtifacts() {
+        // Given
+        System.setProperty(AotDetector.AOT_ENABLED, "true");
+
+        try (MockedConstruction<SpringonalClassPathBeanDefinitionScanner> scannerMock = mockConstruction(
+                SpringonalClassPathBeanDefinitionScanner.class)) {
+
+            // When
+            processor.postProcessBeanDefinitionRegistry(registry);
+
+            // Then
+            assertThat(scannerMock.constructed()).isEmpty();
+            verifyNoInteractions(registry);
+        } finally {
+            System.clearProperty(AotDetector.AOT_ENABLED);
+        }
+    }
+
+    @Test
+    void shouldRecordStartupStepsAndScanReport() {
+        // Given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("testMainClass", new RootBeanDefinition(TestMainClass.class));
+        ApplicationStartup applicationStartup = mock(ApplicationStartup.class);
+        StartupStep step = mock(StartupStep.class, RETURNS_SELF);
+        when(applicationStartup.start(anyString())).thenReturn(step);
+        processor.setApplicationStartup(applicationStartup);
+
+        // When
+        processor.postProcessBeanDefinitionRegistry(beanFactory);
+
+        // Then
+        verify(applicationStartup).start("springonal.main-class.resolve");
+        verify(applicationStartup).start("springonal.base-packages.resolve");
+        verify(applicationStartup).start("springonal.scan.package");
+        verify(step).tag("main-class", TestMainClass.class.getName());
+        verify(step).tag("packages", "org.edderna.springonal.core");
+        verify(step).tag("package", "org.edderna.springonal.core");
+        verify(step, times(3)).end();
+
+        assertThat(processor.getScanReport()).hasValueSatisfying(report ->
+                assertThat(report.packageScans()).singleElement().satisfies(scan -> {
+                    assertThat(scan.basePackage()).isEqualTo("org.edderna.springonal.core");
+                    assertThat(scan.classesRead()).isPositive();
+                    assertThat(scan.candidatesByStereotype())
+                            .containsOnlyKeys("UseCase", "OutboundAdapter", "InboundAdapter");
+                    assertThat(scan.candidatesByStereotype().get("UseCase")).isPositive();
+                }));
+        assertThat(beanFactory.containsBeanDefinition("springonalComponentScanPostProcessorTest.TestUseCase")).isTrue();
+    }
+
     @Test
     void shouldHandleBeansExceptionGracefully() {
         // Given
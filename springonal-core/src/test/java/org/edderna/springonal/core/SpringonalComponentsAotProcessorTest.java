@@ -0,0 +1,108 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundApiAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SpringonalComponentsAotProcessorTest {
+
+    private SpringonalComponentsAotProcessor processor;
+    private DefaultListableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        processor = new SpringonalComponentsAotProcessor();
+        beanFactory = new DefaultListableBeanFactory();
+    }
+
+    @Test
+    void shouldRegisterReflectionHintsForSpringonalComponents() {
+        beanFactory.registerBeanDefinition("createOrder", new AnnotatedGenericBeanDefinition(CreateOrder.class));
+        beanFactory.registerBeanDefinition("paymentsApi", new AnnotatedGenericBeanDefinition(PaymentsApi.class));
+        beanFactory.registerBeanDefinition("plain", new AnnotatedGenericBeanDefinition(PlainBean.class));
+
+        RuntimeHints hints = applyContribution(processor.processAheadOfTime(beanFactory));
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(CreateOrder.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PaymentsApi.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PlainBean.class)).rejects(hints);
+    }
+
+    @Test
+    void shouldNotContributeWithoutSpringonalComponents() {
+        beanFactory.registerBeanDefinition("plain", new AnnotatedGenericBeanDefinition(PlainBean.class));
+
+        assertThat(processor.processAheadOfTime(beanFactory)).isNull();
+    }
+
+    @Test
+    void shouldExcludeScanPostProcessorFromGeneratedCode() {
+        beanFactory.registerBeanDefinition("postProcessor", new RootBeanDefinition(SpringonalComponentScanPostProcessor.class));
+        beanFactory.registerBeanDefinition("plain", new RootBeanDefinition(PlainBean.class));
+
+        assertThat(processor.isExcludedFromAotProcessing(RegisteredBean.of(beanFactory, "postProcessor"))).isTrue();
+        assertThat(processor.isExcludedFromAotProcessing(RegisteredBean.of(beanFactory, "plain"))).isFalse();
+    }
+
+    @Test
+    void shouldRegisterIndexAndStereotypeHints() {
+        RuntimeHints hints = new RuntimeHints();
+
+        new SpringonalRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.resource().forResource(SpringonalComponentsIndex.INDEX_LOCATION)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(UseCase.class)).accepts(hints);
+    }
+
+    private static RuntimeHints applyContribution(BeanFactoryInitializationAotContribution contribution) {
+        RuntimeHints hints = new RuntimeHints();
+        GenerationContext generationContext = mock(GenerationContext.class);
+        when(generationContext.getRuntimeHints()).thenReturn(hints);
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+        return hints;
+    }
+
+    @UseCase
+    static class CreateOrder {
+    }
+
+    @OutboundApiAdapter
+    static class PaymentsApi {
+    }
+
+    static class PlainBean {
+    }
+}
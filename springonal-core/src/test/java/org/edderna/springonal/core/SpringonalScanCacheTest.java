@@ -0,0 +1,183 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringonalScanCacheTest {
+
+    private static final String BASE_PACKAGE = "com.acme";
+
+    private static final String SCOPE = "org.edderna.springonal.annotations.application.UseCase";
+
+    @TempDir
+    Path cacheDirectory;
+
+    @TempDir
+    Path firstRoot;
+
+    @TempDir
+    Path secondRoot;
+
+    private final List<URL> scannedRoots = new ArrayList<>();
+
+    private final List<URLClassLoader> classLoaders = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        SpringonalScanCache.clearMemory();
+        for (URLClassLoader classLoader : classLoaders) {
+            classLoader.close();
+        }
+    }
+
+    @Test
+    void shouldReuseDiskEntriesAcrossClassLoaders() throws IOException {
+        // Given
+        writeClass(firstRoot, "CreateOrder");
+        SpringonalScanCache cache = new SpringonalScanCache(cacheDirectory);
+        cache.candidates(classLoader(firstRoot), SCOPE, BASE_PACKAGE, this::scan);
+        SpringonalScanCache.clearMemory();
+
+        // When
+        Map<String, Set<String>> candidates = cache.candidates(classLoader(firstRoot), SCOPE, BASE_PACKAGE, this::scan);
+
+        // Then
+        assertThat(scannedRoots).hasSize(1);
+        assertThat(candidates).containsOnlyKeys("com.acme.CreateOrder");
+    }
+
+    @Test
+    void shouldServeRepeatedScansOfSameClassLoaderFromMemory() throws IOException {
+        // Given
+        writeClass(firstRoot, "CreateOrder");
+        ClassLoader classLoader = classLoader(firstRoot);
+        SpringonalScanCache cache = new SpringonalScanCache(cacheDirectory);
+        cache.candidates(classLoader, SCOPE, BASE_PACKAGE, this::scan);
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            entries.forEach(entry -> entry.toFile().delete());
+        }
+
+        // When
+        cache.candidates(classLoader, SCOPE, BASE_PACKAGE, this::scan);
+
+        // Then
+        assertThat(scannedRoots).hasSize(1);
+    }
+
+    @Test
+    void shouldRescanOnlyChangedRoots() throws IOException {
+        // Given
+        writeClass(firstRoot, "CreateOrder");
+        writeClass(secondRoot, "CancelOrder");
+        SpringonalScanCache cache = new SpringonalScanCache(cacheDirectory);
+        cache.candidates(classLoader(firstRoot, secondRoot), SCOPE, BASE_PACKAGE, this::scan);
+        SpringonalScanCache.clearMemory();
+        scannedRoots.clear();
+
+        // When
+        writeClass(secondRoot, "ShipOrder");
+        Map<String, Set<String>> candidates = cache.candidates(classLoader(firstRoot, secondRoot), SCOPE, BASE_PACKAGE, this::scan);
+
+        // Then
+        assertThat(scannedRoots).containsExactly(secondRoot.resolve("com/acme/").toUri().toURL());
+        assertThat(candidates).containsOnlyKeys("com.acme.CreateOrder", "com.acme.CancelOrder", "com.acme.ShipOrder");
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        assertThat(SpringonalScanCache.get()).isEmpty();
+    }
+
+    @Test
+    void shouldNotTrustDirectoriesWritableByOthers() throws IOException {
+        // Given
+        writeClass(firstRoot, "CreateOrder");
+        Files.setPosixFilePermissions(cacheDirectory, PosixFilePermissions.fromString("rwxrwxrwx"));
+        SpringonalScanCache cache = new SpringonalScanCache(cacheDirectory);
+
+        // When
+        cache.candidates(classLoader(firstRoot), SCOPE, BASE_PACKAGE, this::scan);
+
+        // Then
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            assertThat(entries).noneMatch(entry -> entry.toString().endsWith(".properties"));
+        }
+    }
+
+    @Test
+    void shouldCreateOwnerOnlyDirectory() throws IOException {
+        // Given
+        Path directory = cacheDirectory.resolve("springonal").resolve("scan-cache");
+
+        // When
+        boolean usable = SpringonalScanCache.isPrivate(directory);
+
+        // Then
+        assertThat(usable).isTrue();
+        assertThat(Files.getPosixFilePermissions(directory)).isEqualTo(PosixFilePermissions.fromString("rwx------"));
+    }
+
+    private Map<String, Set<String>> scan(URL root) throws IOException {
+        scannedRoots.add(root);
+        try (Stream<Path> files = Files.list(Path.of(URI.create(root.toExternalForm())))) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".class"))
+                    .collect(Collectors.toMap(
+                            name -> BASE_PACKAGE + "." + name.substring(0, name.length() - ".class".length()),
+                            _ -> Set.of(SCOPE)));
+        }
+    }
+
+    private ClassLoader classLoader(Path... roots) throws IOException {
+        URL[] urls = new URL[roots.length];
+        for (int i = 0; i < roots.length; i++) {
+            urls[i] = roots[i].toUri().toURL();
+        }
+        URLClassLoader classLoader = new URLClassLoader(urls, null);
+        classLoaders.add(classLoader);
+        return classLoader;
+    }
+
+    private static void writeClass(Path root, String simpleName) throws IOException {
+        Path file = root.resolve("com/acme/" + simpleName + ".class");
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[]{(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE});
+    }
+}
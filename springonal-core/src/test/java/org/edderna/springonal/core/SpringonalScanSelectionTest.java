@@ -0,0 +1,162 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.interfaces.IndoundMessageAdapter;
+import org.edderna.springonal.annotations.interfaces.IndoundRestAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.core.type.filter.TypeFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpringonalScanSelectionTest {
+
+    private final MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory();
+
+    @Test
+    void shouldSelectEveryStereotypeByDefault() {
+        SpringonalScanSelection selection = selection(Map.of());
+
+        assertThat(selection.includeFilters()).hasSize(SpringonalComponentScanPostProcessor.STEREOTYPES.size());
+        assertThat(selection.excludeFilters()).isEmpty();
+        assertThat(selection.basePackages(Set.of("com.acme"))).containsExactly("com.acme");
+    }
+
+    @Test
+    void shouldExcludeStereotypesGivenBySimpleName() throws IOException {
+        // Given
+        SpringonalScanSelection selection = selection(Map.of("springonal.scan.exclude-stereotypes", "IndoundMessageAdapter"));
+
+        // When
+        List<TypeFilter> excludeFilters = selection.excludeFilters();
+
+        // Then
+        assertThat(matchesAny(excludeFilters, OrderListener.class)).isTrue();
+        assertThat(matchesAny(excludeFilters, OrderController.class)).isFalse();
+    }
+
+    @Test
+    void shouldIncludeOnlyConfiguredStereotypes() throws IOException {
+        // Given
+        SpringonalScanSelection selection = selection(Map.of(
+                "springonal.scan.include-stereotypes[0]", UseCase.class.getName(),
+                "springonal.scan.include-stereotypes[1]", "IndoundRestAdapter"));
+
+        // When
+        List<TypeFilter> includeFilters = selection.includeFilters();
+
+        // Then
+        assertThat(matchesAny(includeFilters, OrderController.class)).isTrue();
+        assertThat(matchesAny(includeFilters, PlaceOrder.class)).isTrue();
+        assertThat(matchesAny(includeFilters, OrderListener.class)).isFalse();
+    }
+
+    @Test
+    void shouldNarrowAndDropBasePackages() {
+        // Given
+        SpringonalScanSelection selection = selection(Map.of(
+                "springonal.scan.include-packages", "com.acme.orders,com.acme.billing",
+                "springonal.scan.exclude-packages", "com.legacy"));
+
+        // When
+        Set<String> basePackages = selection.basePackages(new LinkedHashSet<>(List.of("com.acme", "com.acme.orders.api", "com.legacy")));
+
+        // Then
+        assertThat(basePackages).containsExactly("com.acme.orders", "com.acme.billing", "com.acme.orders.api");
+    }
+
+    @Test
+    void shouldExcludeTypesOutsideIncludedPackages() throws IOException {
+        SpringonalScanSelection selection = selection(Map.of("springonal.scan.include-packages", "com.acme"));
+
+        assertThat(matchesAny(selection.excludeFilters(), PlaceOrder.class)).isTrue();
+    }
+
+    @Test
+    void shouldRejectAnnotationsThatAreNotStereotypes() {
+        assertThatThrownBy(() -> selection(Map.of("springonal.scan.exclude-stereotypes", Deprecated.class.getName())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("is not a Springonal stereotype");
+        assertThatThrownBy(() -> selection(Map.of("springonal.scan.exclude-stereotypes", "Unknown")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unknown stereotype");
+    }
+
+    @Test
+    void shouldRegisterEverythingButInboundAdaptersLazilyWhenPruning() {
+        // Given
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        SpringonalClassPathBeanDefinitionScanner scanner = new SpringonalClassPathBeanDefinitionScanner(registry);
+        scanner.resetFilters(false);
+        scanner.setIncludeAnnotationConfig(false);
+        scanner.setPruneUnreferenced(true);
+        scanner.addIncludeFilter((metadataReader, _) -> metadataReader.getClassMetadata().getClassName()
+                .startsWith(SpringonalScanSelectionTest.class.getName() + "$"));
+
+        // When
+        scanner.scan(SpringonalScanSelectionTest.class.getPackageName());
+
+        // Then
+        assertThat(registry.getBeanDefinition("springonalScanSelectionTest.PlaceOrder").isLazyInit()).isTrue();
+        assertThat(registry.getBeanDefinition("springonalScanSelectionTest.OrderController").isLazyInit()).isFalse();
+        assertThat(registry.getBeanDefinition("springonalScanSelectionTest.OrderListener").isLazyInit()).isFalse();
+    }
+
+    private static SpringonalScanSelection selection(Map<String, Object> properties) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return SpringonalScanSelection.from(environment, SpringonalScanSelectionTest.class.getClassLoader());
+    }
+
+    private boolean matchesAny(List<TypeFilter> filters, Class<?> type) throws IOException {
+        for (TypeFilter filter : filters) {
+            if (filter.match(metadataReaderFactory.getMetadataReader(type.getName()), metadataReaderFactory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @UseCase
+    static class PlaceOrder {
+    }
+
+    @IndoundRestAdapter
+    static class OrderController {
+    }
+
+    @IndoundMessageAdapter
+    static class OrderListener {
+    }
+}
@@ -0,0 +1,149 @@
+package org.edderna.springonal.core;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.domain.ValueObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueObjectsTest {
+
+    @Test
+    void shouldReturnCanonicalInstanceForEqualValues() {
+        // Given
+        CurrencyCode first = new CurrencyCode("EUR");
+        CurrencyCode second = new CurrencyCode("EUR");
+
+        // When
+        CurrencyCode internedFirst = ValueObjects.intern(first);
+        CurrencyCode internedSecond = ValueObjects.intern(second);
+
+        // Then
+        assertThat(internedFirst).isSameAs(first);
+        assertThat(internedSecond).isSameAs(first);
+    }
+
+    @Test
+    void shouldNotInternValueObjectsWithoutOptIn() {
+        // Given
+        Amount amount = new Amount(10);
+
+        // When
+        Amount interned = ValueObjects.intern(new Amount(10));
+
+        // Then
+        assertThat(ValueObjects.isInterned(Amount.class)).isFalse();
+        assertThat(ValueObjects.intern(amount)).isSameAs(amount);
+        assertThat(interned).isNotSameAs(amount);
+    }
+
+    @Test
+    void shouldReturnNullForNullValues() {
+        assertThat(ValueObjects.<CountryCode>intern(null)).isNull();
+    }
+
+    @Test
+    void shouldTrackStatisticsPerType() {
+        // Given
+        ValueObjects.intern(new CountryCode("ES"));
+        ValueObjects.intern(new CountryCode("ES"));
+        ValueObjects.intern(new CountryCode("ES"));
+        ValueObjects.intern(new CountryCode("MX"));
+
+        // When
+        ValueObjectPool.Statistics statistics = ValueObjects.getPools().stream()
+                .filter(pool -> pool.getType() == CountryCode.class)
+                .findFirst()
+                .orElseThrow()
+                .getStatistics();
+
+        // Then
+        assertThat(statistics.hits()).isEqualTo(2);
+        assertThat(statistics.misses()).isEqualTo(2);
+        assertThat(statistics.hitRate()).isEqualTo(0.5);
+        assertThat(statistics.estimatedBytesSaved()).isEqualTo(2 * 16);
+    }
+
+    @Test
+    void shouldAgreeOnCanonicalInstanceUnderContention() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Callable<StatusCode> intern = () -> ValueObjects.intern(new StatusCode("ACTIVE"));
+        List<Future<StatusCode>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(intern));
+            }
+            StatusCode canonical = results.getFirst().get();
+
+            // Then
+            for (Future<StatusCode> result : results) {
+                assertThat(result.get()).isSameAs(canonical);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldStopNotifyingListenersOnceRegistrationIsClosed() {
+        // Given
+        List<Class<?>> created = new ArrayList<>();
+        ValueObjects.Registration registration = ValueObjects.onPoolCreated(pool -> created.add(pool.getType()));
+
+        // When
+        registration.close();
+        ValueObjects.intern(new RegionCode("EU"));
+
+        // Then
+        assertThat(created).doesNotContain(RegionCode.class);
+    }
+
+    @ValueObject(intern = true)
+    record CurrencyCode(String code) {
+    }
+
+    @ValueObject(intern = true)
+    record CountryCode(String code) {
+    }
+
+    @ValueObject(intern = true)
+    record StatusCode(String code) {
+    }
+
+    @ValueObject(intern = true)
+    record RegionCode(String code) {
+    }
+
+    @ValueObject
+    record Amount(long cents) {
+    }
+}
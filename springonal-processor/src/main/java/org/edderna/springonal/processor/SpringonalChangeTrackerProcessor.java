@@ -0,0 +1,254 @@
+package org.edderna.springonal.processor;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@SupportedAnnotationTypes({
+        SpringonalChangeTrackerProcessor.DOMAIN_ENTITY,
+        SpringonalChangeTrackerProcessor.AGGREGATE_ROOT
+})
+public class SpringonalChangeTrackerProcessor extends AbstractProcessor {
+
+    static final String DOMAIN_ENTITY = "org.edderna.springonal.annotations.domain.DomainEntity";
+
+    static final String AGGREGATE_ROOT = "org.edderna.springonal.annotations.domain.AggregateRoot";
+
+    static final String SUFFIX = "_ChangeTracker";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        annotations.stream()
+                .flatMap(annotation -> roundEnv.getElementsAnnotatedWith(annotation).stream())
+                .filter(element -> element.getKind().isClass())
+                .map(TypeElement.class::cast)
+                .filter(SpringonalChangeTrackerProcessor::isTracked)
+                .distinct()
+                .forEach(this::generateTracker);
+        return false;
+    }
+
+    static boolean isTracked(Element element) {
+        return element.getAnnotationMirrors().stream()
+                .filter(mirror -> {
+                    String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+                    return name.equals(DOMAIN_ENTITY) || name.equals(AGGREGATE_ROOT);
+                })
+                .flatMap(mirror -> mirror.getElementValues().entrySet().stream())
+                .anyMatch(entry -> entry.getKey().getSimpleName().contentEquals("trackChanges")
+                        && Boolean.TRUE.equals(entry.getValue().getValue()));
+    }
+
+    private void generateTracker(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Types with trackChanges must not be private", type);
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String trackerName = trackerSimpleName(type) + SUFFIX;
+        String typeName = type.getQualifiedName().toString();
+        Map<String, Property> properties = propertiesOf(type);
+        try {
+            String qualifiedName = packageName.isEmpty() ? trackerName : packageName + "." + trackerName;
+            try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+                writer.write(source(packageName, trackerName, typeName, properties));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write change tracker for " + typeName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private static String trackerSimpleName(TypeElement type) {
+        List<String> names = new ArrayList<>();
+        Element current = type;
+        while (!(current instanceof PackageElement)) {
+            names.addFirst(current.getSimpleName().toString());
+            current = current.getEnclosingElement();
+        }
+        return String.join("_", names);
+    }
+
+    private Map<String, Property> propertiesOf(TypeElement type) {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        if (type.getKind() == ElementKind.RECORD) {
+            type.getRecordComponents().forEach(component -> properties.put(component.getSimpleName().toString(),
+                    property(component.getSimpleName() + "()", component.getAccessor().getReturnType())));
+            return properties;
+        }
+        ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+                .filter(method -> method.getParameters().isEmpty())
+                .filter(method -> !method.getModifiers().contains(Modifier.STATIC))
+                .filter(method -> !method.getModifiers().contains(Modifier.PRIVATE))
+                .filter(method -> method.getReturnType().getKind() != TypeKind.VOID)
+                .filter(method -> !((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object"))
+                .forEach(method -> propertyName(method).ifPresent(name ->
+                        properties.putIfAbsent(name, property(method.getSimpleName() + "()", method.getReturnType()))));
+        return properties;
+    }
+
+    private static Optional<String> propertyName(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (name.startsWith("get") && name.length() > 3) {
+            return Optional.of(decapitalize(name.substring(3)));
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+            return Optional.of(decapitalize(name.substring(2)));
+        }
+        return Optional.empty();
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private Property property(String accessor, TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        boolean collection = isAssignable(type, "java.util.Collection");
+        boolean map = isAssignable(type, "java.util.Map");
+        Child child = Child.NONE;
+        if (type.getKind() == TypeKind.DECLARED && isTracked(types.asElement(type))) {
+            child = Child.SINGLE;
+        } else if (collection && type instanceof DeclaredType declared && declared.getTypeArguments().size() == 1) {
+            TypeMirror element = declared.getTypeArguments().getFirst();
+            if (element.getKind() == TypeKind.DECLARED && isTracked(types.asElement(element))) {
+                child = Child.MANY;
+            }
+        }
+        return new Property(accessor, collection || map, child);
+    }
+
+    private boolean isAssignable(TypeMirror type, String target) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Types types = processingEnv.getTypeUtils();
+        TypeElement targetElement = processingEnv.getElementUtils().getTypeElement(target);
+        return types.isAssignable(types.erasure(type), types.erasure(targetElement.asType()));
+    }
+
+    private static String source(String packageName, String trackerName, String typeName, Map<String, Property> properties) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(SpringonalChangeTrackerProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(trackerName)
+                .append(" implements org.edderna.springonal.core.ChangeTracker<").append(typeName).append("> {\n\n")
+                .append("    private static final java.util.List<String> PROPERTIES = java.util.List.of(")
+                .append(String.join(", ", properties.keySet().stream().map(name -> "\"" + name + "\"").toList()))
+                .append(");\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(typeName).append("> type() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<String> properties() {\n")
+                .append("        return PROPERTIES;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Object[] snapshot(").append(typeName).append(" entity) {\n")
+                .append("        return new Object[]{");
+        List<String> values = new ArrayList<>();
+        properties.values().forEach(property -> values.add(property.copied()
+                ? "org.edderna.springonal.core.ChangeTracker.snapshotOf(entity." + property.accessor() + ")"
+                : "entity." + property.accessor()));
+        source.append(String.join(", ", values)).append("};\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.Set<String> changedProperties(").append(typeName)
+                .append(" entity, Object[] snapshot) {\n")
+                .append("        java.util.Set<String> changed = new java.util.LinkedHashSet<>();\n");
+        int index = 0;
+        for (Map.Entry<String, Property> entry : properties.entrySet()) {
+            source.append("        if (!java.util.Objects.equals(snapshot[").append(index++).append("], entity.")
+                    .append(entry.getValue().accessor()).append(")) {\n")
+                    .append("            changed.add(\"").append(entry.getKey()).append("\");\n")
+                    .append("        }\n");
+        }
+        source.append("        return changed;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void children(").append(typeName)
+                .append(" entity, java.util.function.Consumer<Object> consumer) {\n");
+        for (Property property : properties.values()) {
+            switch (property.child()) {
+                case SINGLE -> source.append("        if (entity.").append(property.accessor()).append(" != null) {\n")
+                        .append("            consumer.accept(entity.").append(property.accessor()).append(");\n")
+                        .append("        }\n");
+                case MANY -> source.append("        if (entity.").append(property.accessor()).append(" != null) {\n")
+                        .append("            for (Object child : entity.").append(property.accessor()).append(") {\n")
+                        .append("                if (child != null) {\n")
+                        .append("                    consumer.accept(child);\n")
+                        .append("                }\n")
+                        .append("            }\n")
+                        .append("        }\n");
+                case NONE -> {
+                }
+            }
+        }
+        return source.append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private enum Child {
+        NONE,
+        SINGLE,
+        MANY
+    }
+
+    private record Property(String accessor, boolean copied, Child child) {
+    }
+}
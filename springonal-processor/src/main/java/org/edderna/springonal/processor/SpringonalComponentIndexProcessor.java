@@ -0,0 +1,152 @@
+package org.edderna.springonal.processor;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+@SupportedAnnotationTypes("*")
+public class SpringonalComponentIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX_LOCATION = "META-INF/springonal.components";
+
+    static final Set<String> STEREOTYPES = Set.of(
+            "org.edderna.springonal.annotations.application.UseCase",
+            "org.edderna.springonal.annotations.infrastructure.OutboundAdapter",
+            "org.edderna.springonal.annotations.interfaces.InboundAdapter"
+    );
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        roundEnv.getRootElements().stream()
+                .flatMap(SpringonalComponentIndexProcessor::typesOf)
+                .forEach(this::indexType);
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private static Stream<TypeElement> typesOf(Element element) {
+        if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+            return Stream.empty();
+        }
+        return Stream.concat(
+                Stream.of((TypeElement) element),
+                element.getEnclosedElements().stream().flatMap(SpringonalComponentIndexProcessor::typesOf)
+        );
+    }
+
+    private void indexType(TypeElement type) {
+        if (!type.getKind().isClass()) {
+            return;
+        }
+        Set<String> stereotypes = stereotypesOf(type);
+        if (!stereotypes.isEmpty()) {
+            index.put(processingEnv.getElementUtils().getBinaryName(type).toString(), stereotypes);
+        }
+    }
+
+    private Set<String> stereotypesOf(Element element) {
+        Set<String> stereotypes = new TreeSet<>();
+        collectStereotypes(element, stereotypes, new HashSet<>());
+        return stereotypes;
+    }
+
+    private void collectStereotypes(Element element, Set<String> stereotypes, Set<String> visited) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            String name = annotation.getQualifiedName().toString();
+            if (STEREOTYPES.contains(name)) {
+                stereotypes.add(name);
+            } else if (!name.startsWith("java.lang.annotation.") && visited.add(name)) {
+                collectStereotypes(annotation, stereotypes, visited);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        Properties previous = readPreviousIndex();
+        previous.stringPropertyNames().stream()
+                .filter(className -> !index.containsKey(className))
+                .map(className -> processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')))
+                .filter(Objects::nonNull)
+                .forEach(this::indexType);
+
+        if (index.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                    writer.write(entry.getKey() + "=" + String.join(",", entry.getValue()) + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private Properties readPreviousIndex() {
+        Properties properties = new Properties();
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (InputStream in = file.openInputStream()) {
+                properties.load(in);
+            }
+        } catch (IOException | IllegalArgumentException _) {
+            // No previous index: full compilation
+        }
+        return properties;
+    }
+}
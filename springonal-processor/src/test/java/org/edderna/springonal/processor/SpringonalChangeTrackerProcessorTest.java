@@ -0,0 +1,184 @@
+package org.edderna.springonal.processor;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.domain.DomainEntity;
+import org.edderna.springonal.core.ChangeTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringonalChangeTrackerProcessorTest {
+
+    private static final String ORDER = """
+            package com.acme;
+            @org.edderna.springonal.annotations.domain.AggregateRoot(trackChanges = true)
+            public class Order {
+                private String status;
+                private java.util.List<Line> lines = new java.util.ArrayList<>();
+                public String getStatus() { return status; }
+                public void setStatus(String status) { this.status = status; }
+                public java.util.List<Line> getLines() { return lines; }
+            }
+            """;
+
+    private static final String LINE = """
+            package com.acme;
+            @org.edderna.springonal.annotations.domain.DomainEntity(trackChanges = true)
+            public class Line {
+                private int quantity;
+                public int getQuantity() { return quantity; }
+                public void setQuantity(int quantity) { this.quantity = quantity; }
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldGenerateTrackerForOptedInTypes() throws Exception {
+        try (URLClassLoader classLoader = compile(source("com.acme.Order", ORDER), source("com.acme.Line", LINE))) {
+            // Given
+            Class<?> orderType = classLoader.loadClass("com.acme.Order");
+            ChangeTracker<Object> tracker = trackerFor(orderType);
+            Object order = orderType.getDeclaredConstructor().newInstance();
+            Object[] snapshot = tracker.snapshot(order);
+
+            // When
+            orderType.getMethod("setStatus", String.class).invoke(order, "PAID");
+
+            // Then
+            assertThat(tracker.properties()).containsExactly("status", "lines");
+            assertThat(tracker.changedProperties(order, snapshot)).containsExactly("status");
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDetectCollectionChangesAndExposeTrackedChildren() throws Exception {
+        try (URLClassLoader classLoader = compile(source("com.acme.Order", ORDER), source("com.acme.Line", LINE))) {
+            // Given
+            Class<?> orderType = classLoader.loadClass("com.acme.Order");
+            ChangeTracker<Object> tracker = trackerFor(orderType);
+            Object order = orderType.getDeclaredConstructor().newInstance();
+            Object[] snapshot = tracker.snapshot(order);
+
+            // When
+            Object line = classLoader.loadClass("com.acme.Line").getDeclaredConstructor().newInstance();
+            ((List<Object>) orderType.getMethod("getLines").invoke(order)).add(line);
+            List<Object> children = new ArrayList<>();
+            tracker.children(order, children::add);
+
+            // Then
+            assertThat(tracker.changedProperties(order, snapshot)).containsExactly("lines");
+            assertThat(children).containsExactly(line);
+        }
+    }
+
+    @Test
+    void shouldIgnoreTypesWithoutTrackChanges() throws Exception {
+        try (URLClassLoader classLoader = compile(source("com.acme.Customer", """
+                package com.acme;
+                @org.edderna.springonal.annotations.domain.DomainEntity
+                public class Customer {}
+                """))) {
+            assertThat(classLoader.getResource("com/acme/Customer" + ChangeTracker.SUFFIX + ".class")).isNull();
+        }
+    }
+
+    @Test
+    void shouldNameTrackersOfNestedRecords() throws Exception {
+        try (URLClassLoader classLoader = compile(source("com.acme.Orders", """
+                package com.acme;
+                public class Orders {
+                    @org.edderna.springonal.annotations.domain.DomainEntity(trackChanges = true)
+                    public record Note(String text) {}
+                }
+                """))) {
+            Class<?> noteType = classLoader.loadClass("com.acme.Orders$Note");
+
+            assertThat(trackerFor(noteType).properties()).containsExactly("text");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeTracker<Object> trackerFor(Class<?> type) throws ReflectiveOperationException {
+        return (ChangeTracker<Object>) Class.forName(ChangeTracker.trackerClassName(type), true, type.getClassLoader())
+                .getDeclaredConstructor()
+                .newInstance();
+    }
+
+    private URLClassLoader compile(JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            fileManager.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(output));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, trackingClasspath());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    null, null, List.of(sources));
+            task.setProcessors(List.of(new SpringonalChangeTrackerProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static List<Path> trackingClasspath() {
+        return Stream.of(DomainEntity.class, ChangeTracker.class)
+                .map(SpringonalChangeTrackerProcessorTest::locationOf)
+                .collect(Collectors.toList());
+    }
+
+    private static Path locationOf(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package org.edderna.springonal.processor;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundAdapter;
+import org.edderna.springonal.annotations.interfaces.InboundAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringonalComponentIndexProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldIndexDirectlyAnnotatedTypes() throws IOException {
+        Properties index = compile(source("com.acme.CreateOrder", """
+                package com.acme;
+                @org.edderna.springonal.annotations.application.UseCase
+                public class CreateOrder {}
+                """));
+
+        assertThat(index)
+                .containsEntry("com.acme.CreateOrder", "org.edderna.springonal.annotations.application.UseCase");
+    }
+
+    @Test
+    void shouldIndexMetaAnnotatedTypesUnderTheirStereotype() throws IOException {
+        Properties index = compile(
+                source("com.acme.OrderController", """
+                        package com.acme;
+                        @org.edderna.springonal.annotations.interfaces.IndoundRestAdapter
+                        public class OrderController {}
+                        """),
+                source("com.acme.OrderRepository", """
+                        package com.acme;
+                        @org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter
+                        public class OrderRepository {}
+                        """));
+
+        assertThat(index)
+                .containsEntry("com.acme.OrderController", "org.edderna.springonal.annotations.interfaces.InboundAdapter")
+                .containsEntry("com.acme.OrderRepository", "org.edderna.springonal.annotations.infrastructure.OutboundAdapter");
+    }
+
+    @Test
+    void shouldIndexNestedTypesByBinaryName() throws IOException {
+        Properties index = compile(source("com.acme.Orders", """
+                package com.acme;
+                public class Orders {
+                    @org.edderna.springonal.annotations.application.UseCase
+                    public static class Cancel {}
+                }
+                """));
+
+        assertThat(index).containsOnlyKeys("com.acme.Orders$Cancel");
+    }
+
+    @Test
+    void shouldNotWriteIndexWithoutComponents() throws IOException {
+        compile(source("com.acme.Plain", """
+                package com.acme;
+                public class Plain {}
+                """));
+
+        assertThat(output.resolve(SpringonalComponentIndexProcessor.INDEX_LOCATION)).doesNotExist();
+    }
+
+    private Properties compile(JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, annotationsClasspath());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    null, null, List.of(sources));
+            task.setProcessors(List.of(new SpringonalComponentIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+        Properties index = new Properties();
+        Path location = output.resolve(SpringonalComponentIndexProcessor.INDEX_LOCATION);
+        if (Files.exists(location)) {
+            try (InputStream in = Files.newInputStream(location)) {
+                index.load(in);
+            }
+        }
+        return index;
+    }
+
+    private static List<Path> annotationsClasspath() {
+        return Stream.of(UseCase.class, InboundAdapter.class, OutboundAdapter.class)
+                .map(SpringonalComponentIndexProcessorTest::locationOf)
+                .collect(Collectors.toList());
+    }
+
+    private static Path locationOf(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package org.edderna.springonal.spring.boot.starter;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AdvisedSupport;
+import org.springframework.aop.framework.AopInfrastructureBean;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.core.Ordered;
+
+public abstract class SpringonalAdvisingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public static final int SINGLE_FLIGHT_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    public static final int USE_CASE_LATENCY_ORDER = Ordered.HIGHEST_PRECEDENCE + 200;
+
+    public static final int USE_CASE_EXECUTION_ORDER = Ordered.HIGHEST_PRECEDENCE + 300;
+
+    public static final int CPU_BOUND_USE_CASE_ORDER = Ordered.HIGHEST_PRECEDENCE + 400;
+
+    public static final int CHANGE_TRACKING_ORDER = Ordered.HIGHEST_PRECEDENCE + 500;
+
+    public static final int DOMAIN_EVENT_ORDER = Ordered.HIGHEST_PRECEDENCE + 600;
+
+    public static final int WARMUP_STUB_ORDER = Ordered.HIGHEST_PRECEDENCE + 700;
+
+    public static final int AGGREGATE_CACHE_ORDER = Ordered.HIGHEST_PRECEDENCE + 800;
+
+    public static final int ADAPTER_CACHE_ORDER = Ordered.HIGHEST_PRECEDENCE + 900;
+
+    public static final int BATCHING_ORDER = Ordered.HIGHEST_PRECEDENCE + 1000;
+
+    public static final int HEDGING_ORDER = Ordered.HIGHEST_PRECEDENCE + 1100;
+
+    public static final int OUTBOUND_ISOLATION_ORDER = Ordered.HIGHEST_PRECEDENCE + 1200;
+
+    public static final int CONCURRENCY_LIMITER_ORDER = Ordered.HIGHEST_PRECEDENCE + 1300;
+
+    private final int advisorOrder;
+
+    protected SpringonalAdvisingPostProcessor(int advisorOrder) {
+        this.advisorOrder = advisorOrder;
+        setProxyTargetClass(true);
+    }
+
+    protected final void advise(Pointcut pointcut, Advice advice) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, advice);
+        advisor.setOrder(advisorOrder);
+        this.advisor = advisor;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (this.advisor != null && !(bean instanceof AopInfrastructureBean) && bean instanceof Advised advised
+                && !advised.isFrozen() && isEligible(AopUtils.getTargetClass(bean))) {
+            advised.addAdvisor(position(advised), this.advisor);
+            return bean;
+        }
+        return super.postProcessAfterInitialization(bean, beanName);
+    }
+
+    private int position(Advised advised) {
+        Advisor[] advisors = advised.getAdvisors();
+        int last = advised.getTargetSource() == AdvisedSupport.EMPTY_TARGET_SOURCE && advisors.length > 0
+                ? advisors.length - 1
+                : advisors.length;
+        for (int i = 0; i < last; i++) {
+            int order = advisors[i] instanceof Ordered ordered ? ordered.getOrder() : Ordered.LOWEST_PRECEDENCE;
+            if (order > advisorOrder) {
+                return i;
+            }
+        }
+        return last;
+    }
+}
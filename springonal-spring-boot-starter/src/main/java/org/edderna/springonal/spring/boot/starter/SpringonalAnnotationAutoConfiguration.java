@@ -21,7 +21,6 @@ package org.edderna.springonal.spring.boot.starter;
  */
 
 import org.edderna.springonal.core.SpringonalComponentScanPostProcessor;
-import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.context.annotation.Bean;
@@ -34,7 +33,7 @@ import org.springframework.core.Ordered;
 public class SpringonalAnnotationAutoConfiguration {
 
     @Bean
-    public BeanDefinitionRegistryPostProcessor postProcessor() {
+    public static SpringonalComponentScanPostProcessor postProcessor() {
         return new SpringonalComponentScanPostProcessor();
     }
 }
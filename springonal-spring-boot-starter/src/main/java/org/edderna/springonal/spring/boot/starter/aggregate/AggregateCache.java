@@ -0,0 +1,92 @@
+package org.edderna.springonal.spring.boot.starter.aggregate;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+public class AggregateCache {
+
+    private final AggregateCacheProperties properties;
+
+    private final StripedLocks locks;
+
+    private final ConcurrentMap<Class<?>, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+
+    private final List<BiConsumer<Class<?>, Cache<Object, Object>>> listeners = new CopyOnWriteArrayList<>();
+
+    public AggregateCache(AggregateCacheProperties properties) {
+        this.properties = properties;
+        this.locks = new StripedLocks(properties.getLockStripes());
+    }
+
+    public StripedLocks getLocks() {
+        return locks;
+    }
+
+    public Cache<Object, Object> cache(Class<?> aggregateType) {
+        Cache<Object, Object> cache = caches.get(aggregateType);
+        if (cache == null) {
+            cache = caches.computeIfAbsent(aggregateType, this::register);
+        }
+        return cache;
+    }
+
+    public void invalidate(Object id) {
+        caches.values().forEach(cache -> cache.invalidate(id));
+    }
+
+    public void invalidate(Collection<?> ids) {
+        int[] indexes = locks.indexesFor(ids);
+        for (int index : indexes) {
+            locks.lockAt(index).lock();
+        }
+        try {
+            ids.forEach(this::invalidate);
+        } finally {
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                locks.lockAt(indexes[i]).unlock();
+            }
+        }
+    }
+
+    public void onRegistration(BiConsumer<Class<?>, Cache<Object, Object>> listener) {
+        listeners.add(listener);
+        caches.forEach(listener);
+    }
+
+    private Cache<Object, Object> register(Class<?> aggregateType) {
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        listeners.forEach(listener -> listener.accept(aggregateType, cache));
+        return cache;
+    }
+}
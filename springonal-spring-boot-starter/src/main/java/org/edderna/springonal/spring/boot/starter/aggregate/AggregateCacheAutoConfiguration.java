@@ -0,0 +1,59 @@
+package org.edderna.springonal.spring.boot.starter.aggregate;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnClass(Caffeine.class)
+@ConditionalOnProperty(prefix = AggregateCacheProperties.PREFIX, name = "enabled", havingValue = "true")
+public class AggregateCacheAutoConfiguration {
+
+    @Bean
+    public static AggregateCache aggregateCache(Environment environment) {
+        return new AggregateCache(Binder.get(environment)
+                .bindOrCreate(AggregateCacheProperties.PREFIX, AggregateCacheProperties.class));
+    }
+
+    @Bean
+    public static AggregateCachePostProcessor aggregateCachePostProcessor(AggregateCache aggregateCache) {
+        return new AggregateCachePostProcessor(aggregateCache);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class AggregateCacheMeterConfiguration {
+
+        @Bean
+        public AggregateCacheMetrics aggregateCacheMetrics(AggregateCache aggregateCache) {
+            return new AggregateCacheMetrics(aggregateCache);
+        }
+    }
+}
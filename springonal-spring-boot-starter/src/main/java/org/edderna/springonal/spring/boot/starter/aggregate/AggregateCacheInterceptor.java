@@ -0,0 +1,136 @@
+package org.edderna.springonal.spring.boot.starter.aggregate;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class AggregateCacheInterceptor implements MethodInterceptor {
+
+    private final AggregateCache aggregateCache;
+
+    private final ConcurrentMap<Method, Integer> idParameters = new ConcurrentHashMap<>();
+
+    public AggregateCacheInterceptor(AggregateCache aggregateCache) {
+        this.aggregateCache = aggregateCache;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Object[] arguments = invocation.getArguments();
+        int idParameter = idParameters.computeIfAbsent(method, AggregateIds::idParameter);
+        Object id = idParameter >= 0 ? arguments[idParameter] : null;
+        Class<?> aggregateType = aggregateType(method);
+        if (aggregateType != null && arguments.length == 1 && id != null) {
+            return aggregateType.isRecord() ? read(invocation, aggregateType, id) : invocation.proceed();
+        }
+        List<Object> ids = writtenIds(arguments);
+        if (id != null && aggregateType == null) {
+            ids.add(id);
+        }
+        return ids.isEmpty() ? invocation.proceed() : write(invocation, ids);
+    }
+
+    private Object read(MethodInvocation invocation, Class<?> aggregateType, Object id) throws Throwable {
+        if (PendingInvalidations.isPending(aggregateCache, id)) {
+            return invocation.proceed();
+        }
+        Cache<Object, Object> cache = aggregateCache.cache(aggregateType);
+        boolean optional = invocation.getMethod().getReturnType() == Optional.class;
+        Object cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return optional ? Optional.of(cached) : cached;
+        }
+        ReentrantLock lock = aggregateCache.getLocks().lockFor(id);
+        lock.lock();
+        try {
+            cached = cache.getIfPresent(id);
+            if (cached == null) {
+                Object result = invocation.proceed();
+                cached = result instanceof Optional<?> loaded ? loaded.orElse(null) : result;
+                if (cached != null) {
+                    cache.put(AggregateIds.idOf(cached).orElse(id), cached);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return optional ? Optional.ofNullable(cached) : cached;
+    }
+
+    private Object write(MethodInvocation invocation, List<Object> ids) throws Throwable {
+        StripedLocks locks = aggregateCache.getLocks();
+        int[] indexes = locks.indexesFor(ids);
+        for (int index : indexes) {
+            locks.lockAt(index).lock();
+        }
+        try {
+            ids.forEach(aggregateCache::invalidate);
+            PendingInvalidations.register(aggregateCache, ids);
+            return invocation.proceed();
+        } finally {
+            ids.forEach(aggregateCache::invalidate);
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                locks.lockAt(indexes[i]).unlock();
+            }
+        }
+    }
+
+    private static List<Object> writtenIds(Object[] arguments) {
+        List<Object> ids = new ArrayList<>();
+        for (Object argument : arguments) {
+            if (argument == null) {
+                continue;
+            }
+            if (AggregateIds.isAggregateRoot(argument.getClass())) {
+                AggregateIds.idOf(argument).ifPresent(ids::add);
+            } else if (argument instanceof Iterable<?> aggregates) {
+                aggregates.forEach(aggregate -> {
+                    if (aggregate != null && AggregateIds.isAggregateRoot(aggregate.getClass())) {
+                        AggregateIds.idOf(aggregate).ifPresent(ids::add);
+                    }
+                });
+            }
+        }
+        return ids;
+    }
+
+    static Class<?> aggregateType(Method method) {
+        Class<?> returnType = method.getReturnType() == Optional.class
+                ? ResolvableType.forMethodReturnType(method).getGeneric(0).resolve()
+                : method.getReturnType();
+        return returnType != null && AggregateIds.isAggregateRoot(returnType) ? returnType : null;
+    }
+}
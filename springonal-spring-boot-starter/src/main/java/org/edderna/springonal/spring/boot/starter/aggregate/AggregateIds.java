@@ -0,0 +1,90 @@
+package org.edderna.springonal.spring.boot.starter.aggregate;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.domain.AggregateId;
+import org.edderna.springonal.annotations.domain.AggregateRoot;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+final class AggregateIds {
+
+    private static final Set<String> ID_METHODS = Set.of("findById", "getById", "deleteById", "removeById");
+
+    private static final ClassValue<Function<Object, Object>> accessors = new ClassValue<>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+            return accessor(type);
+        }
+    };
+
+    private AggregateIds() {
+    }
+
+    static boolean isAggregateRoot(Class<?> type) {
+        return AnnotatedElementUtils.hasAnnotation(type, AggregateRoot.class);
+    }
+
+    static int idParameter(Method method) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(AggregateId.class)) {
+                return i;
+            }
+        }
+        return parameters.length == 1 && ID_METHODS.contains(method.getName()) ? 0 : -1;
+    }
+
+    static Optional<Object> idOf(Object aggregate) {
+        return Optional.ofNullable(accessors.get(aggregate.getClass()).apply(aggregate));
+    }
+
+    private static Function<Object, Object> accessor(Class<?> type) {
+        AtomicReference<Field> idField = new AtomicReference<>();
+        ReflectionUtils.doWithFields(type, idField::set, field -> field.isAnnotationPresent(AggregateId.class));
+        if (idField.get() != null) {
+            Field field = idField.get();
+            ReflectionUtils.makeAccessible(field);
+            return aggregate -> ReflectionUtils.getField(field, aggregate);
+        }
+        AtomicReference<Method> idMethod = new AtomicReference<>();
+        ReflectionUtils.doWithMethods(type, idMethod::set,
+                method -> method.isAnnotationPresent(AggregateId.class) && method.getParameterCount() == 0);
+        if (idMethod.get() == null) {
+            idMethod.set(Optional.ofNullable(ReflectionUtils.findMethod(type, "getId"))
+                    .orElseGet(() -> ReflectionUtils.findMethod(type, "id")));
+        }
+        if (idMethod.get() == null) {
+            return _ -> null;
+        }
+        Method method = idMethod.get();
+        ReflectionUtils.makeAccessible(method);
+        return aggregate -> ReflectionUtils.invokeMethod(method, aggregate);
+    }
+}
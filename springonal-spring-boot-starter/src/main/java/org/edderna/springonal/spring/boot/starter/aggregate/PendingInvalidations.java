@@ -0,0 +1,79 @@
+package org.edderna.springonal.spring.boot.starter.aggregate;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class PendingInvalidations implements TransactionSynchronization {
+
+    private static final boolean transactionsPresent = ClassUtils.isPresent(
+            "org.springframework.transaction.support.TransactionSynchronizationManager",
+            PendingInvalidations.class.getClassLoader());
+
+    private final AggregateCache aggregateCache;
+
+    private final Set<Object> ids = ConcurrentHashMap.newKeySet();
+
+    private PendingInvalidations(AggregateCache aggregateCache) {
+        this.aggregateCache = aggregateCache;
+    }
+
+    static void register(AggregateCache aggregateCache, Collection<Object> ids) {
+        if (!transactionsPresent || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(aggregateCache);
+        if (pending == null) {
+            pending = new PendingInvalidations(aggregateCache);
+            TransactionSynchronizationManager.bindResource(aggregateCache, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.ids.addAll(ids);
+    }
+
+    static boolean isPending(AggregateCache aggregateCache, Object id) {
+        return transactionsPresent
+                && TransactionSynchronizationManager.getResource(aggregateCache) instanceof PendingInvalidations pending
+                && pending.ids.contains(id);
+    }
+
+    @Override
+    public void suspend() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(aggregateCache);
+    }
+
+    @Override
+    public void resume() {
+        TransactionSynchronizationManager.bindResource(aggregateCache, this);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(aggregateCache);
+        aggregateCache.invalidate(ids);
+    }
+}
@@ -0,0 +1,129 @@
+package org.edderna.springonal.spring.boot.starter.batching;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+class BatchLoader {
+
+    private final BatchFunction batchFunction;
+
+    private final Duration window;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor executor;
+
+    private final TaskDecorator taskDecorator;
+
+    private Map<Object, List<CompletableFuture<Object>>> pending = new LinkedHashMap<>();
+
+    private long generation;
+
+    private ScheduledFuture<?> scheduledFlush;
+
+    BatchLoader(BatchFunction batchFunction, Duration window, int maxBatchSize,
+                ScheduledExecutorService scheduler, Executor executor, TaskDecorator taskDecorator) {
+        this.batchFunction = batchFunction;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.taskDecorator = taskDecorator;
+    }
+
+    CompletableFuture<Object> load(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Batched keys must not be null");
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Map<Object, List<CompletableFuture<Object>>> full = null;
+        synchronized (this) {
+            pending.computeIfAbsent(key, _ -> new ArrayList<>(1)).add(result);
+            if (pending.size() >= maxBatchSize) {
+                full = take();
+            } else if (scheduledFlush == null) {
+                long batch = generation;
+                scheduledFlush = scheduler.schedule(taskDecorator.decorate(() -> flush(batch)),
+                        window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            submit(full);
+        }
+        return result;
+    }
+
+    private void flush(long batch) {
+        Map<Object, List<CompletableFuture<Object>>> due;
+        synchronized (this) {
+            if (batch != generation || pending.isEmpty()) {
+                return;
+            }
+            due = take();
+        }
+        submit(due);
+    }
+
+    private Map<Object, List<CompletableFuture<Object>>> take() {
+        Map<Object, List<CompletableFuture<Object>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void submit(Map<Object, List<CompletableFuture<Object>>> batch) {
+        executor.execute(taskDecorator.decorate(() -> dispatch(batch)));
+    }
+
+    private void dispatch(Map<Object, List<CompletableFuture<Object>>> batch) {
+        try {
+            List<Object> keys = List.copyOf(batch.keySet());
+            Map<Object, Object> results = batchFunction.load(keys);
+            batch.forEach((key, futures) -> futures.forEach(future -> future.complete(results.get(key))));
+        } catch (Throwable e) {
+            batch.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(e)));
+        }
+    }
+
+    @FunctionalInterface
+    interface BatchFunction {
+
+        Map<Object, Object> load(List<Object> keys) throws Throwable;
+    }
+}
@@ -0,0 +1,57 @@
+package org.edderna.springonal.spring.boot.starter.batching;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.edderna.springonal.spring.boot.starter.execution.ContextTaskDecorators;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Gathers calls to {@code @Batched} adapter methods into batch method calls. Batches always run on a virtual
+ * thread, whether they are flushed by the window or dispatched as soon as they fill up. The context of the caller
+ * that opened the batch, or that filled it, is propagated through {@link ContextTaskDecorators}. Batches never run
+ * inside a caller's transaction, because one batch serves many callers.
+ */
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = BatchingProperties.PREFIX, name = "enabled", havingValue = "true")
+public class BatchingAutoConfiguration {
+
+    @Bean
+    public static BatchingPostProcessor batchingPostProcessor(Environment environment,
+                                                              ObjectProvider<TaskDecorator> taskDecorators) {
+        BatchingProperties properties = Binder.get(environment)
+                .bindOrCreate(BatchingProperties.PREFIX, BatchingProperties.class);
+        CustomizableThreadFactory schedulerThreads = new CustomizableThreadFactory("springonal-batching-");
+        schedulerThreads.setDaemon(true);
+        return new BatchingPostProcessor(new BatchingInterceptor(properties,
+                Executors.newSingleThreadScheduledExecutor(schedulerThreads),
+                Executors.newVirtualThreadPerTaskExecutor(), ContextTaskDecorators.of(taskDecorators)));
+    }
+}
@@ -0,0 +1,163 @@
+package org.edderna.springonal.spring.boot.starter.batching;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.edderna.springonal.annotations.infrastructure.Batched;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class BatchingInterceptor implements MethodInterceptor {
+
+    private final BatchingProperties properties;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor executor;
+
+    private final TaskDecorator taskDecorator;
+
+    private final ConcurrentMap<Object, ConcurrentMap<Method, BatchLoader>> loaders = new ConcurrentHashMap<>();
+
+    public BatchingInterceptor(BatchingProperties properties, ScheduledExecutorService scheduler, Executor executor,
+                               TaskDecorator taskDecorator) {
+        this.properties = properties;
+        this.scheduler = scheduler;
+        this.executor = executor;
+        this.taskDecorator = taskDecorator;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        if (target == null || invocation.getArguments().length != 1) {
+            return invocation.proceed();
+        }
+        Method method = invocation.getMethod();
+        ConcurrentMap<Method, BatchLoader> methods = loaders.computeIfAbsent(target, _ -> new ConcurrentHashMap<>());
+        BatchLoader loader = methods.get(method);
+        if (loader == null) {
+            loader = methods.computeIfAbsent(method, _ -> createLoader(invocation));
+        }
+        CompletableFuture<Object> result = loader.load(invocation.getArguments()[0]);
+        if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+            return result;
+        }
+        try {
+            return result.get(properties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Batch for " + method.getDeclaringClass().getName() + "#" + method.getName()
+                    + " did not complete within " + properties.getMaxWait(), e);
+        }
+    }
+
+    void shutdown() {
+        scheduler.shutdownNow();
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private BatchLoader createLoader(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        Method method = invocation.getMethod();
+        Class<?> targetClass = AopUtils.getTargetClass(target);
+        Batched batched = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getMostSpecificMethod(method, targetClass), Batched.class);
+        if (batched == null) {
+            batched = AnnotatedElementUtils.findMergedAnnotation(method, Batched.class);
+        }
+        Method batchMethod = findBatchMethod(targetClass, batched.batchMethod());
+        Object receiver = invocation instanceof ProxyMethodInvocation proxyInvocation ? proxyInvocation.getProxy() : target;
+        Duration window = batched.windowMillis() >= 0 ? Duration.ofMillis(batched.windowMillis()) : properties.getWindow();
+        int maxBatchSize = batched.maxBatchSize() > 0 ? batched.maxBatchSize() : properties.getMaxBatchSize();
+        return new BatchLoader(keys -> toResults(keys, invokeBatch(receiver, batchMethod, keys)),
+                window, maxBatchSize, scheduler, executor, taskDecorator);
+    }
+
+    private static Method findBatchMethod(Class<?> targetClass, String name) {
+        Method[] candidates = ReflectionUtils.getUniqueDeclaredMethods(targetClass, method ->
+                method.getName().equals(name)
+                        && method.getParameterCount() == 1
+                        && method.getParameterTypes()[0].isAssignableFrom(List.class));
+        if (candidates.length != 1) {
+            throw new IllegalStateException("Batch method " + targetClass.getName() + "#" + name
+                    + " must be unique and accept a single List or Collection of keys");
+        }
+        ReflectionUtils.makeAccessible(candidates[0]);
+        return candidates[0];
+    }
+
+    private static Object invokeBatch(Object receiver, Method batchMethod, List<Object> keys) throws Throwable {
+        Object result = AopUtils.invokeJoinpointUsingReflection(receiver, batchMethod, new Object[]{keys});
+        if (result instanceof CompletableFuture<?> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> toResults(List<Object> keys, Object result) {
+        if (result instanceof Map<?, ?> map) {
+            return (Map<Object, Object>) map;
+        }
+        if (result instanceof Collection<?> values) {
+            if (values.size() != keys.size()) {
+                throw new IllegalStateException("Batch method returned " + values.size()
+                        + " results for " + keys.size() + " keys");
+            }
+            Map<Object, Object> results = new HashMap<>();
+            int index = 0;
+            for (Object value : values) {
+                results.put(keys.get(index++), value);
+            }
+            return results;
+        }
+        throw new IllegalStateException("Batch method must return a Map keyed by the requested keys or a List in key order");
+    }
+}
@@ -0,0 +1,44 @@
+package org.edderna.springonal.spring.boot.starter.batching;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.infrastructure.Batched;
+import org.edderna.springonal.annotations.infrastructure.OutboundAdapter;
+import org.edderna.springonal.spring.boot.starter.SpringonalAdvisingPostProcessor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.DisposableBean;
+
+public class BatchingPostProcessor extends SpringonalAdvisingPostProcessor implements DisposableBean {
+
+    private final BatchingInterceptor interceptor;
+
+    public BatchingPostProcessor(BatchingInterceptor interceptor) {
+        super(BATCHING_ORDER);
+        this.interceptor = interceptor;
+        advise(new AnnotationMatchingPointcut(OutboundAdapter.class, Batched.class, true),
+                interceptor);
+    }
+
+    @Override
+    public void destroy() {
+        interceptor.shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+package org.edderna.springonal.spring.boot.starter.cache;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnClass(Caffeine.class)
+@ConditionalOnProperty(prefix = AdapterCacheProperties.PREFIX, name = "enabled", havingValue = "true")
+public class AdapterCacheAutoConfiguration {
+
+    @Bean
+    public static AdapterCaches adapterCaches(Environment environment) {
+        return new AdapterCaches(Binder.get(environment)
+                .bindOrCreate(AdapterCacheProperties.PREFIX, AdapterCacheProperties.class));
+    }
+
+    @Bean
+    public static AdapterCachePostProcessor adapterCachePostProcessor(AdapterCaches adapterCaches) {
+        return new AdapterCachePostProcessor(adapterCaches);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class AdapterCacheMeterConfiguration {
+
+        @Bean
+        public AdapterCacheMetrics adapterCacheMetrics(AdapterCaches caches) {
+            return new AdapterCacheMetrics(caches);
+        }
+    }
+}
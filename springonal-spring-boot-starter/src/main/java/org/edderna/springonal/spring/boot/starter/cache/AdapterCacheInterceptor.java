@@ -0,0 +1,54 @@
+package org.edderna.springonal.spring.boot.starter.cache;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.edderna.springonal.spring.boot.starter.cache.AdapterCaches.AdapterCache;
+import org.edderna.springonal.spring.boot.starter.cache.AdapterCaches.CacheKey;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.concurrent.CompletionException;
+
+public class AdapterCacheInterceptor implements MethodInterceptor {
+
+    private final AdapterCaches caches;
+
+    public AdapterCacheInterceptor(AdapterCaches caches) {
+        this.caches = caches;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        if (target == null || !(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+            return invocation.proceed();
+        }
+        AdapterCache cache = caches.cache(AopUtils.getTargetClass(target), invocation.getMethod());
+        try {
+            return cache.cache().get(new CacheKey(invocation.getArguments().clone()),
+                    _ -> cache.loader().load(proxyInvocation));
+        } catch (CompletionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+}
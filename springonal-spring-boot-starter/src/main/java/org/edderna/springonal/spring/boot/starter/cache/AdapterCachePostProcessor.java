@@ -0,0 +1,54 @@
+package org.edderna.springonal.spring.boot.starter.cache;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.infrastructure.OutboundApiAdapter;
+import org.edderna.springonal.spring.boot.starter.SpringonalAdvisingPostProcessor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+public class AdapterCachePostProcessor extends SpringonalAdvisingPostProcessor {
+
+    public AdapterCachePostProcessor(AdapterCaches caches) {
+        super(ADAPTER_CACHE_ORDER);
+        AdapterCacheProperties properties = caches.getProperties();
+        ClassFilter cachedAdapters = type -> AnnotatedElementUtils.hasAnnotation(type, OutboundApiAdapter.class)
+                && properties.getAdapter(type).isPresent();
+        StaticMethodMatcher cachedMethods = new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getReturnType() != void.class
+                        && Modifier.isPublic(method.getModifiers())
+                        && method.getDeclaringClass() != Object.class
+                        && properties.getAdapter(targetClass)
+                        .filter(adapter -> adapter.isCached(method.getName()))
+                        .isPresent();
+            }
+        };
+        advise(new ComposablePointcut(cachedAdapters, cachedMethods),
+                new AdapterCacheInterceptor(caches));
+    }
+}
@@ -0,0 +1,133 @@
+package org.edderna.springonal.spring.boot.starter.cache;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@ConfigurationProperties(prefix = AdapterCacheProperties.PREFIX)
+public class AdapterCacheProperties {
+
+    public static final String PREFIX = "springonal.cache";
+
+    private boolean enabled;
+
+    private Map<String, Adapter> adapters = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Map<String, Adapter> getAdapters() {
+        return adapters;
+    }
+
+    public void setAdapters(Map<String, Adapter> adapters) {
+        this.adapters = adapters;
+    }
+
+    public Optional<Adapter> getAdapter(Class<?> adapterClass) {
+        return Optional.ofNullable(adapters.get(adapterClass.getName()))
+                .filter(Adapter::isEnabled);
+    }
+
+    public static class Spec {
+
+        private Long maximumSize;
+
+        private Duration expireAfterWrite;
+
+        private Duration refreshAfterWrite;
+
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        public Duration getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+
+        public void setRefreshAfterWrite(Duration refreshAfterWrite) {
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+    }
+
+    public static class Adapter extends Spec {
+
+        private boolean enabled = true;
+
+        private Map<String, Spec> methods = new LinkedHashMap<>();
+
+        public Adapter() {
+            setMaximumSize(10_000L);
+            setExpireAfterWrite(Duration.ofMinutes(10));
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Map<String, Spec> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(Map<String, Spec> methods) {
+            this.methods = methods;
+        }
+
+        public boolean isCached(String methodName) {
+            return methods.isEmpty() || methods.containsKey(methodName);
+        }
+
+        public Spec getMethod(String methodName) {
+            Spec method = methods.getOrDefault(methodName, new Spec());
+            Spec merged = new Spec();
+            merged.setMaximumSize(Optional.ofNullable(method.getMaximumSize()).orElse(getMaximumSize()));
+            merged.setExpireAfterWrite(Optional.ofNullable(method.getExpireAfterWrite()).orElse(getExpireAfterWrite()));
+            merged.setRefreshAfterWrite(Optional.ofNullable(method.getRefreshAfterWrite()).orElse(getRefreshAfterWrite()));
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.edderna.springonal.spring.boot.starter.cache;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class AdapterCaches {
+
+    private final AdapterCacheProperties properties;
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, AdapterCache>> caches = new ConcurrentHashMap<>();
+
+    private final List<Consumer<AdapterCache>> listeners = new CopyOnWriteArrayList<>();
+
+    public AdapterCaches(AdapterCacheProperties properties) {
+        this.properties = properties;
+    }
+
+    public AdapterCacheProperties getProperties() {
+        return properties;
+    }
+
+    public AdapterCache cache(Class<?> adapter, Method method) {
+        ConcurrentMap<Method, AdapterCache> methods = caches.get(adapter);
+        if (methods == null) {
+            methods = caches.computeIfAbsent(adapter, _ -> new ConcurrentHashMap<>());
+        }
+        AdapterCache cache = methods.get(method);
+        if (cache == null) {
+            cache = methods.computeIfAbsent(method, _ -> register(adapter, method));
+        }
+        return cache;
+    }
+
+    public List<AdapterCache> getCaches() {
+        return caches.values().stream()
+                .flatMap(methods -> methods.values().stream())
+                .toList();
+    }
+
+    public void onRegistration(Consumer<AdapterCache> listener) {
+        listeners.add(listener);
+        getCaches().forEach(listener);
+    }
+
+    private AdapterCache register(Class<?> adapter, Method method) {
+        AdapterCacheProperties.Spec spec = properties.getAdapter(adapter)
+                .orElseGet(AdapterCacheProperties.Adapter::new)
+                .getMethod(method.getName());
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getRefreshAfterWrite() != null) {
+            builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        }
+        InvocationLoader loader = new InvocationLoader();
+        AdapterCache cache = new AdapterCache(adapter, method, builder.build(loader), loader);
+        listeners.forEach(listener -> listener.accept(cache));
+        return cache;
+    }
+
+    public record AdapterCache(Class<?> adapter, Method method, LoadingCache<CacheKey, Object> cache,
+                               InvocationLoader loader) {
+
+        public String name() {
+            return adapter.getName() + "#" + method.getName();
+        }
+    }
+
+    public record CacheKey(Object[] arguments) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CacheKey key && Arrays.deepEquals(arguments, key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.deepHashCode(arguments);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.deepToString(arguments);
+        }
+    }
+}
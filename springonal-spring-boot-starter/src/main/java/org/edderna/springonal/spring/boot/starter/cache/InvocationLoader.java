@@ -0,0 +1,56 @@
+package org.edderna.springonal.spring.boot.starter.cache;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import org.edderna.springonal.spring.boot.starter.cache.AdapterCaches.CacheKey;
+import org.springframework.aop.ProxyMethodInvocation;
+
+import java.util.concurrent.CompletionException;
+
+final class InvocationLoader implements CacheLoader<CacheKey, Object> {
+
+    private volatile ProxyMethodInvocation template;
+
+    Object load(ProxyMethodInvocation invocation) {
+        template = (ProxyMethodInvocation) invocation.invocableClone();
+        return proceed(invocation);
+    }
+
+    @Override
+    public Object load(CacheKey key) {
+        ProxyMethodInvocation current = template;
+        if (current == null) {
+            throw new IllegalStateException("No invocation to load " + key + " through");
+        }
+        return proceed((ProxyMethodInvocation) current.invocableClone(key.arguments().clone()));
+    }
+
+    private static Object proceed(ProxyMethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new CompletionException(e);
+        }
+    }
+}
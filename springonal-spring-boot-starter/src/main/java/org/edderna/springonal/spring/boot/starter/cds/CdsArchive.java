@@ -0,0 +1,85 @@
+package org.edderna.springonal.spring.boot.starter.cds;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+final class CdsArchive {
+
+    static final String ARCHIVE_AT_EXIT = "-XX:ArchiveClassesAtExit=";
+
+    static final String SHARED_ARCHIVE = "-XX:SharedArchiveFile=";
+
+    static final String FINGERPRINT_SUFFIX = ".classpath";
+
+    private CdsArchive() {
+    }
+
+    static Optional<Path> resolve(Path configured, List<String> jvmArguments, String option) {
+        if (configured != null) {
+            return Optional.of(configured);
+        }
+        return jvmArguments.stream()
+                .filter(argument -> argument.startsWith(option))
+                .map(argument -> Path.of(argument.substring(option.length())))
+                .reduce((first, second) -> second);
+    }
+
+    static Path fingerprintFile(Path archive) {
+        return archive.resolveSibling(archive.getFileName() + FINGERPRINT_SUFFIX);
+    }
+
+    static String fingerprint(String classPath) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String entry : classPath.split(File.pathSeparator)) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(Path.of(entry), BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    digest.update((":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis())
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException _) {
+                digest.update(":missing".getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
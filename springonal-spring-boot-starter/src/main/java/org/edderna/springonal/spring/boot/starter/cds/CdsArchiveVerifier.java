@@ -0,0 +1,76 @@
+package org.edderna.springonal.spring.boot.starter.cds;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class CdsArchiveVerifier implements InitializingBean {
+
+    private static final Log logger = LogFactory.getLog(CdsArchiveVerifier.class);
+
+    private final CdsProperties properties;
+
+    private final Supplier<List<String>> jvmArguments;
+
+    private volatile Boolean classpathMatching;
+
+    public CdsArchiveVerifier(CdsProperties properties) {
+        this(properties, () -> ManagementFactory.getRuntimeMXBean().getInputArguments());
+    }
+
+    CdsArchiveVerifier(CdsProperties properties, Supplier<List<String>> jvmArguments) {
+        this.properties = properties;
+        this.jvmArguments = jvmArguments;
+    }
+
+    public Optional<Boolean> isClasspathMatching() {
+        return Optional.ofNullable(classpathMatching);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        Optional<Path> archive = CdsArchive.resolve(null, jvmArguments.get(), CdsArchive.SHARED_ARCHIVE)
+                .or(() -> Optional.ofNullable(properties.getArchive()));
+        if (archive.isEmpty()) {
+            return;
+        }
+        Path fingerprint = CdsArchive.fingerprintFile(archive.get().toAbsolutePath());
+        if (!Files.isRegularFile(fingerprint)) {
+            return;
+        }
+        classpathMatching = Files.readString(fingerprint).trim()
+                .equals(CdsArchive.fingerprint(System.getProperty("java.class.path")));
+        if (!classpathMatching && logger.isWarnEnabled()) {
+            logger.warn("CDS archive " + archive.get() + " was trained against a different classpath, "
+                    + "run a training boot with " + CdsProperties.PREFIX + ".training=true to regenerate it");
+        }
+    }
+}
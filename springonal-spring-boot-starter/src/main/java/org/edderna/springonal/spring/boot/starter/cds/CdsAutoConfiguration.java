@@ -0,0 +1,48 @@
+package org.edderna.springonal.spring.boot.starter.cds;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+public class CdsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = CdsProperties.PREFIX, name = "training", havingValue = "true")
+    public CdsTrainingListener cdsTrainingListener(Environment environment) {
+        return new CdsTrainingListener(properties(environment));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = CdsProperties.PREFIX, name = "verify-classpath", havingValue = "true")
+    public CdsArchiveVerifier cdsArchiveVerifier(Environment environment) {
+        return new CdsArchiveVerifier(properties(environment));
+    }
+
+    private static CdsProperties properties(Environment environment) {
+        return Binder.get(environment).bindOrCreate(CdsProperties.PREFIX, CdsProperties.class);
+    }
+}
@@ -0,0 +1,61 @@
+package org.edderna.springonal.spring.boot.starter.cds;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = CdsProperties.PREFIX)
+public class CdsProperties {
+
+    public static final String PREFIX = "springonal.cds";
+
+    private boolean training;
+
+    private Path archive;
+
+    private boolean verifyClasspath;
+
+    public boolean isTraining() {
+        return training;
+    }
+
+    public void setTraining(boolean training) {
+        this.training = training;
+    }
+
+    public Path getArchive() {
+        return archive;
+    }
+
+    public void setArchive(Path archive) {
+        this.archive = archive;
+    }
+
+    public boolean isVerifyClasspath() {
+        return verifyClasspath;
+    }
+
+    public void setVerifyClasspath(boolean verifyClasspath) {
+        this.verifyClasspath = verifyClasspath;
+    }
+}
@@ -0,0 +1,120 @@
+package org.edderna.springonal.spring.boot.starter.cds;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundAdapter;
+import org.edderna.springonal.annotations.interfaces.InboundAdapter;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class CdsTrainingListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Log logger = LogFactory.getLog(CdsTrainingListener.class);
+
+    private static final List<Class<? extends Annotation>> STEREOTYPES = List.of(UseCase.class, OutboundAdapter.class, InboundAdapter.class);
+
+    private final CdsProperties properties;
+
+    private final Supplier<List<String>> jvmArguments;
+
+    private volatile Map<String, Integer> trainedComponents = Map.of();
+
+    public CdsTrainingListener(CdsProperties properties) {
+        this(properties, () -> ManagementFactory.getRuntimeMXBean().getInputArguments());
+    }
+
+    CdsTrainingListener(CdsProperties properties, Supplier<List<String>> jvmArguments) {
+        this.properties = properties;
+        this.jvmArguments = jvmArguments;
+    }
+
+    public Map<String, Integer> getTrainedComponents() {
+        return trainedComponents;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        Map<String, Integer> components = loadBeanClasses(context.getBeanFactory());
+        Optional<Path> archive = CdsArchive.resolve(properties.getArchive(), jvmArguments.get(), CdsArchive.ARCHIVE_AT_EXIT);
+        archive.ifPresent(CdsTrainingListener::writeFingerprint);
+        trainedComponents = components;
+        if (logger.isInfoEnabled()) {
+            logger.info("CDS training loaded Springonal components " + components
+                    + archive.map(path -> ", archive will be written to " + path)
+                    .orElse(", but no " + CdsArchive.ARCHIVE_AT_EXIT + " was given"));
+        }
+        context.close();
+    }
+
+    private static Map<String, Integer> loadBeanClasses(ConfigurableListableBeanFactory beanFactory) {
+        Map<String, Integer> components = new LinkedHashMap<>();
+        STEREOTYPES.forEach(stereotype -> components.put(stereotype.getSimpleName(), 0));
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> type;
+            try {
+                type = beanFactory.getType(beanName, false);
+            } catch (BeansException | LinkageError _) {
+                continue;
+            }
+            if (type == null) {
+                continue;
+            }
+            type = ClassUtils.getUserClass(type);
+            for (Class<? extends Annotation> stereotype : STEREOTYPES) {
+                if (AnnotatedElementUtils.hasAnnotation(type, stereotype)) {
+                    components.merge(stereotype.getSimpleName(), 1, Integer::sum);
+                }
+            }
+        }
+        return components;
+    }
+
+    private static void writeFingerprint(Path archive) {
+        try {
+            Path fingerprint = CdsArchive.fingerprintFile(archive.toAbsolutePath());
+            Files.createDirectories(fingerprint.getParent());
+            Files.writeString(fingerprint, CdsArchive.fingerprint(System.getProperty("java.class.path")));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write CDS classpath fingerprint for " + archive, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.edderna.springonal.spring.boot.starter.changetracking;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = ChangeTrackingProperties.PREFIX, name = "enabled", havingValue = "true")
+public class ChangeTrackingAutoConfiguration {
+
+    @Bean
+    public static ChangeTrackingPostProcessor changeTrackingPostProcessor() {
+        return new ChangeTrackingPostProcessor();
+    }
+}
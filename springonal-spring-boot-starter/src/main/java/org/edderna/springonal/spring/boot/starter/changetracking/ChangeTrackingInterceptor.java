@@ -0,0 +1,80 @@
+package org.edderna.springonal.spring.boot.starter.changetracking;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.core.ChangeTracking;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class ChangeTrackingInterceptor implements MethodInterceptor {
+
+    private final ClassValue<Boolean> useCases = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return AnnotatedElementUtils.hasAnnotation(type, UseCase.class);
+        }
+    };
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        if (useCases.get(AopUtils.getTargetClass(invocation.getThis()))) {
+            try (ChangeTracking.UnitOfWork _ = ChangeTracking.begin()) {
+                return invocation.proceed();
+            }
+        }
+        if (ChangeTracking.currentUnitOfWork().isEmpty()) {
+            return invocation.proceed();
+        }
+        Object result = invocation.proceed();
+        for (Object argument : invocation.getArguments()) {
+            forEachEntity(argument, ChangeTracking::markPersisted);
+        }
+        forEachEntity(result, ChangeTracking::track);
+        return result;
+    }
+
+    private static void forEachEntity(Object value, Consumer<Object> action) {
+        switch (value) {
+            case Optional<?> optional -> optional.ifPresent(entity -> forEachEntity(entity, action));
+            case Iterable<?> entities -> entities.forEach(entity -> {
+                if (entity != null && ChangeTracking.isTracked(entity.getClass())) {
+                    action.accept(entity);
+                }
+            });
+            case null -> {
+            }
+            default -> {
+                if (ChangeTracking.isTracked(value.getClass())) {
+                    action.accept(value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.edderna.springonal.spring.boot.starter.changetracking;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter;
+import org.edderna.springonal.core.ChangeTracking;
+import org.edderna.springonal.spring.boot.starter.SpringonalAdvisingPostProcessor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+public class ChangeTrackingPostProcessor extends SpringonalAdvisingPostProcessor {
+
+    public ChangeTrackingPostProcessor() {
+        super(CHANGE_TRACKING_ORDER);
+        ClassFilter trackingUseCases = ClassFilters.intersection(new AnnotationClassFilter(UseCase.class, true),
+                ChangeTrackingPostProcessor::dependsOnTrackedTypes);
+        StaticMethodMatcher trackedMethods = new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return touchesTrackedTypes(method);
+            }
+        };
+        advise(new ComposablePointcut(trackingUseCases)
+                        .union(new ComposablePointcut(new AnnotationClassFilter(OutboundDatabaseAdapter.class, true),
+                                trackedMethods)),
+                new ChangeTrackingInterceptor());
+    }
+
+    private static boolean dependsOnTrackedTypes(Class<?> useCase) {
+        if (touchesTrackedTypes(useCase)) {
+            return true;
+        }
+        for (Class<?> type = useCase; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (touchesTrackedTypes(field.getType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean touchesTrackedTypes(Class<?> type) {
+        return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(type, ReflectionUtils.USER_DECLARED_METHODS))
+                .anyMatch(ChangeTrackingPostProcessor::touchesTrackedTypes);
+    }
+
+    static boolean touchesTrackedTypes(Method method) {
+        if (isTracked(ResolvableType.forMethodReturnType(method))) {
+            return true;
+        }
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            if (isTracked(ResolvableType.forMethodParameter(method, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTracked(ResolvableType type) {
+        Class<?> resolved = type.resolve();
+        if (resolved == null || resolved.isPrimitive()) {
+            return false;
+        }
+        if (type.isArray()) {
+            return isTracked(type.getComponentType());
+        }
+        if (ChangeTracking.isTracked(resolved)) {
+            return true;
+        }
+        return Arrays.stream(type.getGenerics()).anyMatch(ChangeTrackingPostProcessor::isTracked);
+    }
+}
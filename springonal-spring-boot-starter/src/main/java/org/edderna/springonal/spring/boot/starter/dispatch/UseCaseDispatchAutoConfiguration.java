@@ -0,0 +1,43 @@
+package org.edderna.springonal.spring.boot.starter.dispatch;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = UseCaseDispatchProperties.PREFIX, name = "enabled", havingValue = "true")
+public class UseCaseDispatchAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public UseCaseDispatcher useCaseDispatcher() {
+        return new UseCaseDispatcher();
+    }
+
+    @Bean
+    public UseCaseDispatcherRegistrar useCaseDispatcherRegistrar(UseCaseDispatcher useCaseDispatcher) {
+        return new UseCaseDispatcherRegistrar(useCaseDispatcher);
+    }
+}
@@ -0,0 +1,91 @@
+package org.edderna.springonal.spring.boot.starter.dispatch;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class UseCaseDispatcher {
+
+    private final Map<Class<?>, List<UseCaseHandler>> handlers = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, UseCaseHandler> routes = new ConcurrentHashMap<>();
+
+    void register(Class<?> commandType, String name, Supplier<UseCaseHandler.Target> target) {
+        handlers.computeIfAbsent(commandType, _ -> new ArrayList<>()).add(new UseCaseHandler(name, target));
+        routes.clear();
+    }
+
+    public Set<Class<?>> getCommandTypes() {
+        return Set.copyOf(handlers.keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R> R dispatch(Object command) {
+        UseCaseHandler handler = routes.get(command.getClass());
+        if (handler == null) {
+            handler = routes.computeIfAbsent(command.getClass(), this::route);
+        }
+        UseCaseHandler.Target target = handler.target().get();
+        try {
+            return (R) target.invoker().invoke(target.useCase(), command);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private UseCaseHandler route(Class<?> commandType) {
+        Set<Class<?>> candidates = new LinkedHashSet<>();
+        for (Class<?> type = commandType; type != null; type = type.getSuperclass()) {
+            candidates.add(type);
+        }
+        candidates.addAll(ClassUtils.getAllInterfacesForClassAsSet(commandType));
+        for (Class<?> candidate : candidates) {
+            List<UseCaseHandler> registered = handlers.get(candidate);
+            if (registered == null) {
+                continue;
+            }
+            if (registered.size() > 1) {
+                throw new IllegalStateException("Ambiguous @UseCase handlers for command " + commandType.getName() + ": "
+                        + registered.stream().map(UseCaseHandler::name).collect(Collectors.joining(", ")));
+            }
+            return registered.getFirst();
+        }
+        throw new IllegalStateException("No @UseCase handler for command " + commandType.getName());
+    }
+
+    record UseCaseHandler(String name, Supplier<Target> target) {
+
+        record Target(Object useCase, UseCaseInvoker invoker) {
+        }
+    }
+}
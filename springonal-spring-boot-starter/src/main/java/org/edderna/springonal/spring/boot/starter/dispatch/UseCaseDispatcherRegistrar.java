@@ -0,0 +1,87 @@
+package org.edderna.springonal.spring.boot.starter.dispatch;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.CommandHandler;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+public class UseCaseDispatcherRegistrar implements SmartInitializingSingleton, BeanFactoryAware {
+
+    private final UseCaseDispatcher dispatcher;
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public UseCaseDispatcherRegistrar(UseCaseDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : beanFactory.getBeanNamesForAnnotation(UseCase.class)) {
+            if (ScopedProxyUtils.isScopedTarget(beanName)) {
+                continue;
+            }
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type == null) {
+                continue;
+            }
+            MethodIntrospector.selectMethods(ClassUtils.getUserClass(type),
+                            (MethodIntrospector.MetadataLookup<Boolean>) method -> isHandler(method) ? Boolean.TRUE : null)
+                    .keySet()
+                    .forEach(method -> dispatcher.register(method.getParameterTypes()[0],
+                            beanName + "#" + method.getName(),
+                            SingletonSupplier.of(() -> target(beanName, method))));
+        }
+    }
+
+    private UseCaseDispatcher.UseCaseHandler.Target target(String beanName, Method method) {
+        Object useCase = beanFactory.getBean(beanName);
+        return new UseCaseDispatcher.UseCaseHandler.Target(useCase,
+                UseCaseInvoker.of(AopUtils.selectInvocableMethod(method, useCase.getClass())));
+    }
+
+    private static boolean isHandler(Method method) {
+        return Modifier.isPublic(method.getModifiers())
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getParameterCount() == 1
+                && method.getParameterTypes()[0] != Object.class
+                && AnnotatedElementUtils.hasAnnotation(method, CommandHandler.class);
+    }
+}
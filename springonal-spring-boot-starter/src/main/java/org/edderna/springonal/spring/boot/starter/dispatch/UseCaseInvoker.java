@@ -0,0 +1,77 @@
+package org.edderna.springonal.spring.boot.starter.dispatch;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+@FunctionalInterface
+interface UseCaseInvoker {
+
+    MethodType ERASED = MethodType.genericMethodType(2);
+
+    Object invoke(Object useCase, Object command) throws Throwable;
+
+    @SuppressWarnings("unchecked")
+    static UseCaseInvoker of(Method method) {
+        MethodHandle handle;
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access use case method " + method, e);
+        }
+        MethodType instantiated = handle.type().wrap();
+        try {
+            if (method.getReturnType() == void.class) {
+                BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) lambda(lookup, handle, "accept",
+                        BiConsumer.class, ERASED.changeReturnType(void.class), instantiated.changeReturnType(void.class));
+                return (useCase, command) -> {
+                    consumer.accept(useCase, command);
+                    return null;
+                };
+            }
+            BiFunction<Object, Object, Object> function = (BiFunction<Object, Object, Object>) lambda(lookup, handle,
+                    "apply", BiFunction.class, ERASED, instantiated);
+            return function::apply;
+        } catch (LambdaConversionException e) {
+            MethodHandle erased = handle.asType(ERASED);
+            return (useCase, command) -> erased.invokeExact(useCase, command);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot generate invoker for use case method " + method, e);
+        }
+    }
+
+    private static Object lambda(MethodHandles.Lookup lookup, MethodHandle handle, String name, Class<?> type,
+                                 MethodType erased, MethodType instantiated) throws Throwable {
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, name, MethodType.methodType(type),
+                erased, handle, instantiated);
+        return callSite.getTarget().invoke();
+    }
+}
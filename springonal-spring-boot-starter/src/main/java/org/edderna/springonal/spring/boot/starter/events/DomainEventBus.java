@@ -0,0 +1,172 @@
+package org.edderna.springonal.spring.boot.starter.events;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class DomainEventBus implements SmartLifecycle {
+
+    private static final Log logger = LogFactory.getLog(DomainEventBus.class);
+
+    private final DomainEventProperties properties;
+
+    private final WaitStrategy waitStrategy;
+
+    private final DomainEventRingBuffer ringBuffer;
+
+    private final Map<String, DomainEventConsumer> consumers = new ConcurrentHashMap<>();
+
+    private final Map<String, Thread> threads = new ConcurrentHashMap<>();
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    private final ThreadPoolExecutor handOffExecutor;
+
+    private final AtomicInteger pendingHandOffs = new AtomicInteger();
+
+    private volatile boolean running;
+
+    public DomainEventBus(DomainEventProperties properties) {
+        this.properties = properties;
+        this.waitStrategy = WaitStrategy.of(properties.getWaitStrategy());
+        this.ringBuffer = new DomainEventRingBuffer(properties.getBufferSize(), waitStrategy);
+        this.handOffExecutor = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("springonal-events-hand-off").daemon().factory());
+        this.handOffExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public void publish(Object event) {
+        if (DomainEventConsumer.isConsumerThread()) {
+            if (pendingHandOffs.get() > 0 || !ringBuffer.tryPublish(event, 0)) {
+                handOff(event);
+            }
+            return;
+        }
+        if (!ringBuffer.tryPublish(event, properties.getPublishTimeout().toNanos())) {
+            throw new IllegalStateException("Domain event buffer stayed full for "
+                    + properties.getPublishTimeout() + ", could not publish " + event);
+        }
+    }
+
+    public synchronized void subscribe(String name, DomainEventHandler handler) {
+        if (consumers.containsKey(name)) {
+            throw new IllegalStateException("Domain event listener " + name + " is already subscribed");
+        }
+        DomainEventConsumer consumer = new DomainEventConsumer(name, ringBuffer, waitStrategy, handler);
+        consumers.put(name, consumer);
+        if (running) {
+            startThread(consumer);
+        }
+        listeners.forEach(listener -> listener.accept(name));
+    }
+
+    public void onSubscription(Consumer<String> listener) {
+        listeners.add(listener);
+        consumers.keySet().forEach(listener);
+    }
+
+    public DomainEventRingBuffer getRingBuffer() {
+        return ringBuffer;
+    }
+
+    public long getLag(String name) {
+        DomainEventConsumer consumer = consumers.get(name);
+        return consumer == null ? 0 : consumer.getLag();
+    }
+
+    public long getFailures(String name) {
+        DomainEventConsumer consumer = consumers.get(name);
+        return consumer == null ? 0 : consumer.getFailures();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!running) {
+            running = true;
+            consumers.values().forEach(this::startThread);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        long published = ringBuffer.getCursor();
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        for (DomainEventConsumer consumer : consumers.values()) {
+            while (consumer.getSequence() < published && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+                Thread.yield();
+            }
+        }
+        consumers.values().forEach(DomainEventConsumer::halt);
+        threads.values().forEach(thread -> {
+            try {
+                thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread.interrupt();
+        });
+        threads.clear();
+        consumers.clear();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void handOff(Object event) {
+        pendingHandOffs.incrementAndGet();
+        handOffExecutor.execute(() -> {
+            try {
+                if (!ringBuffer.tryPublish(event, properties.getPublishTimeout().toNanos())) {
+                    logger.error("Domain event buffer stayed full for " + properties.getPublishTimeout()
+                            + ", dropped event published by a listener: " + event);
+                }
+            } finally {
+                pendingHandOffs.decrementAndGet();
+            }
+        });
+    }
+
+    private void startThread(DomainEventConsumer consumer) {
+        threads.put(consumer.getName(), Thread.ofPlatform()
+                .name("springonal-events-" + consumer.getName())
+                .daemon()
+                .start(consumer));
+    }
+}
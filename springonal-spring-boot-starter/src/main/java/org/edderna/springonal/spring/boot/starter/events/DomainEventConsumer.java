@@ -0,0 +1,134 @@
+package org.edderna.springonal.spring.boot.starter.events;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+final class DomainEventConsumer implements Runnable {
+
+    private static final Log logger = LogFactory.getLog(DomainEventConsumer.class);
+
+    private static final ThreadLocal<Boolean> consuming = new ThreadLocal<>();
+
+    private final String name;
+
+    private final DomainEventRingBuffer ringBuffer;
+
+    private final WaitStrategy waitStrategy;
+
+    private final DomainEventHandler handler;
+
+    private final AtomicLong sequence;
+
+    private final LongSupplier cursor;
+
+    private final BooleanSupplier running;
+
+    private final LongAdder failures = new LongAdder();
+
+    private volatile boolean halted;
+
+    DomainEventConsumer(String name, DomainEventRingBuffer ringBuffer, WaitStrategy waitStrategy, DomainEventHandler handler) {
+        this.name = name;
+        this.ringBuffer = ringBuffer;
+        this.waitStrategy = waitStrategy;
+        this.handler = handler;
+        this.sequence = ringBuffer.addGatingSequence();
+        this.cursor = ringBuffer::getCursor;
+        this.running = () -> !halted;
+    }
+
+    @Override
+    public void run() {
+        consuming.set(Boolean.TRUE);
+        try {
+            consume();
+        } finally {
+            consuming.remove();
+            ringBuffer.removeGatingSequence(sequence);
+        }
+    }
+
+    private void consume() {
+        long next = sequence.get() + 1;
+        while (true) {
+            long available;
+            try {
+                available = waitStrategy.waitFor(next, cursor, running);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (available < next) {
+                if (halted) {
+                    break;
+                }
+                continue;
+            }
+            long highest = ringBuffer.highestPublished(next, available);
+            if (highest < next) {
+                Thread.onSpinWait();
+                continue;
+            }
+            for (long current = next; current <= highest; current++) {
+                try {
+                    handler.onEvent(ringBuffer.get(current), current, current == highest);
+                } catch (Throwable e) {
+                    failures.increment();
+                    logger.error("Domain event listener " + name + " failed", e);
+                }
+            }
+            sequence.lazySet(highest);
+            next = highest + 1;
+        }
+    }
+
+    static boolean isConsumerThread() {
+        return consuming.get() != null;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getSequence() {
+        return sequence.get();
+    }
+
+    long getLag() {
+        return Math.max(0, ringBuffer.getCursor() - sequence.get());
+    }
+
+    long getFailures() {
+        return failures.sum();
+    }
+
+    void halt() {
+        halted = true;
+        waitStrategy.signalAllWhenBlocking();
+    }
+}
@@ -0,0 +1,100 @@
+package org.edderna.springonal.spring.boot.starter.events;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.core.AbstractAggregateRoot;
+import org.edderna.springonal.spring.boot.starter.warmup.WarmupContext;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DomainEventInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<List<Object>> pendingEvents = new ThreadLocal<>();
+
+    private final ClassValue<Boolean> useCases = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return AnnotatedElementUtils.hasAnnotation(type, UseCase.class);
+        }
+    };
+
+    private final DomainEventBus bus;
+
+    public DomainEventInterceptor(DomainEventBus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        if (useCases.get(AopUtils.getTargetClass(invocation.getThis()))) {
+            return invokeUseCase(invocation);
+        }
+        Object result = invocation.proceed();
+        for (Object argument : invocation.getArguments()) {
+            if (argument instanceof Iterable<?> aggregates) {
+                aggregates.forEach(this::collect);
+            } else {
+                collect(argument);
+            }
+        }
+        return result;
+    }
+
+    private Object invokeUseCase(MethodInvocation invocation) throws Throwable {
+        if (pendingEvents.get() != null) {
+            return invocation.proceed();
+        }
+        List<Object> events = new ArrayList<>();
+        pendingEvents.set(events);
+        try {
+            Object result = invocation.proceed();
+            pendingEvents.remove();
+            if (!WarmupContext.isActive()) {
+                events.forEach(bus::publish);
+            }
+            return result;
+        } finally {
+            pendingEvents.remove();
+        }
+    }
+
+    private void collect(Object argument) {
+        if (!(argument instanceof AbstractAggregateRoot aggregate) || aggregate.domainEvents().isEmpty()) {
+            return;
+        }
+        List<Object> events = pendingEvents.get();
+        if (events != null) {
+            events.addAll(aggregate.domainEvents());
+        } else if (!WarmupContext.isActive()) {
+            aggregate.domainEvents().forEach(bus::publish);
+        }
+        aggregate.clearDomainEvents();
+    }
+}
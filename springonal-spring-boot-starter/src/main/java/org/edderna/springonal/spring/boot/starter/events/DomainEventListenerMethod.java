@@ -0,0 +1,90 @@
+package org.edderna.springonal.spring.boot.starter.events;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+final class DomainEventListenerMethod implements DomainEventHandler {
+
+    private final Object bean;
+
+    private final Method method;
+
+    private final Class<?> eventType;
+
+    private final boolean batched;
+
+    private final List<Object> batch = new ArrayList<>();
+
+    private final List<Object> batchView = Collections.unmodifiableList(batch);
+
+    DomainEventListenerMethod(Object bean, Method method) {
+        if (method.getParameterCount() != 1) {
+            throw new IllegalStateException("@DomainEventListener method " + method
+                    + " must declare exactly one parameter");
+        }
+        this.bean = bean;
+        this.method = method;
+        this.batched = List.class.equals(method.getParameterTypes()[0]);
+        ResolvableType parameter = ResolvableType.forMethodParameter(method, 0);
+        Class<?> resolved = batched ? parameter.getGeneric(0).resolve() : parameter.resolve();
+        this.eventType = resolved == null ? Object.class : resolved;
+        ReflectionUtils.makeAccessible(method);
+    }
+
+    @Override
+    public void onEvent(Object event, long sequence, boolean endOfBatch) throws Exception {
+        if (!batched) {
+            if (eventType.isInstance(event)) {
+                invoke(event);
+            }
+            return;
+        }
+        if (eventType.isInstance(event)) {
+            batch.add(event);
+        }
+        if (endOfBatch && !batch.isEmpty()) {
+            try {
+                invoke(batchView);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void invoke(Object argument) throws Exception {
+        try {
+            method.invoke(bean, argument);
+        } catch (InvocationTargetException e) {
+            if (e.getTargetException() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+}
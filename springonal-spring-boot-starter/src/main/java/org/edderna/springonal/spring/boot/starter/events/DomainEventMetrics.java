@@ -0,0 +1,54 @@
+package org.edderna.springonal.spring.boot.starter.events;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class DomainEventMetrics implements MeterBinder {
+
+    private final DomainEventBus bus;
+
+    public DomainEventMetrics(DomainEventBus bus) {
+        this.bus = bus;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("springonal.events.buffer.remaining", bus.getRingBuffer(), DomainEventRingBuffer::remainingCapacity)
+                .description("Free slots in the domain event ring buffer")
+                .register(registry);
+        bus.onSubscription(listener -> {
+            Tags tags = Tags.of("listener", listener);
+            Gauge.builder("springonal.events.listener.lag", bus, events -> events.getLag(listener))
+                    .tags(tags)
+                    .description("Domain events published but not yet delivered to a listener")
+                    .register(registry);
+            FunctionCounter.builder("springonal.events.listener.failures", bus, events -> events.getFailures(listener))
+                    .tags(tags)
+                    .description("Domain events whose delivery to a listener failed")
+                    .register(registry);
+        });
+    }
+}
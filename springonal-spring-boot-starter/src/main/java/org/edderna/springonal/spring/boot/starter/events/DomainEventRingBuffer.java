@@ -0,0 +1,154 @@
+package org.edderna.springonal.spring.boot.starter.events;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public final class DomainEventRingBuffer {
+
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private static final AtomicLong[] NO_SEQUENCES = new AtomicLong[0];
+
+    private final int bufferSize;
+
+    private final int mask;
+
+    private final int indexShift;
+
+    private final Object[] events;
+
+    private final int[] available;
+
+    private final WaitStrategy waitStrategy;
+
+    private final AtomicLong cursor = new AtomicLong(-1);
+
+    private volatile AtomicLong[] gatingSequences = NO_SEQUENCES;
+
+    private volatile long gatingSequenceCache = -1;
+
+    public DomainEventRingBuffer(int bufferSize, WaitStrategy waitStrategy) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a positive power of two: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.events = new Object[bufferSize];
+        this.available = new int[bufferSize];
+        this.waitStrategy = waitStrategy;
+        Arrays.fill(available, -1);
+    }
+
+    public boolean tryPublish(Object event, long timeoutNanos) {
+        long sequence = claim(timeoutNanos);
+        if (sequence < 0) {
+            return false;
+        }
+        int index = (int) sequence & mask;
+        events[index] = event;
+        AVAILABLE.setRelease(available, index, (int) (sequence >>> indexShift));
+        waitStrategy.signalAllWhenBlocking();
+        return true;
+    }
+
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public long remainingCapacity() {
+        long produced = cursor.get();
+        return bufferSize - (produced - minimumGatingSequence(produced));
+    }
+
+    Object get(long sequence) {
+        return events[(int) sequence & mask];
+    }
+
+    boolean isAvailable(long sequence) {
+        return (int) AVAILABLE.getAcquire(available, (int) sequence & mask) == (int) (sequence >>> indexShift);
+    }
+
+    long highestPublished(long lowerBound, long availableSequence) {
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            if (!isAvailable(sequence)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    synchronized AtomicLong addGatingSequence() {
+        AtomicLong sequence = new AtomicLong(cursor.get());
+        AtomicLong[] current = gatingSequences;
+        AtomicLong[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = sequence;
+        gatingSequences = updated;
+        sequence.set(cursor.get());
+        return sequence;
+    }
+
+    synchronized void removeGatingSequence(AtomicLong sequence) {
+        gatingSequences = Arrays.stream(gatingSequences)
+                .filter(gatingSequence -> gatingSequence != sequence)
+                .toArray(AtomicLong[]::new);
+    }
+
+    private long claim(long timeoutNanos) {
+        long start = System.nanoTime();
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - bufferSize;
+            if (wrapPoint > gatingSequenceCache) {
+                long minimum = minimumGatingSequence(current);
+                gatingSequenceCache = minimum;
+                if (wrapPoint > minimum) {
+                    if (System.nanoTime() - start >= timeoutNanos) {
+                        return -1;
+                    }
+                    LockSupport.parkNanos(1);
+                    continue;
+                }
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long minimumGatingSequence(long defaultValue) {
+        long minimum = defaultValue;
+        for (AtomicLong sequence : gatingSequences) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+}
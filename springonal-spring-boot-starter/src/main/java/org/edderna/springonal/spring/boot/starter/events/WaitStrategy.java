@@ -0,0 +1,146 @@
+package org.edderna.springonal.spring.boot.starter.events;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+public interface WaitStrategy {
+
+    long waitFor(long sequence, LongSupplier cursor, BooleanSupplier running) throws InterruptedException;
+
+    default void signalAllWhenBlocking() {
+    }
+
+    static WaitStrategy of(DomainEventProperties.WaitStrategyType type) {
+        return switch (type) {
+            case BLOCKING -> new Blocking();
+            case SLEEPING -> new Sleeping();
+            case YIELDING -> new Yielding();
+            case BUSY_SPIN -> new BusySpin();
+        };
+    }
+
+    final class Blocking implements WaitStrategy {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition published = lock.newCondition();
+
+        private final AtomicBoolean signalNeeded = new AtomicBoolean();
+
+        @Override
+        public long waitFor(long sequence, LongSupplier cursor, BooleanSupplier running) throws InterruptedException {
+            long available = cursor.getAsLong();
+            if (available >= sequence) {
+                return available;
+            }
+            lock.lock();
+            try {
+                while ((available = cursor.getAsLong()) < sequence && running.getAsBoolean()) {
+                    signalNeeded.set(true);
+                    if ((available = cursor.getAsLong()) >= sequence || !running.getAsBoolean()) {
+                        break;
+                    }
+                    published.await();
+                }
+            } finally {
+                lock.unlock();
+            }
+            return available;
+        }
+
+        @Override
+        public void signalAllWhenBlocking() {
+            if (signalNeeded.getAndSet(false)) {
+                lock.lock();
+                try {
+                    published.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    final class Sleeping implements WaitStrategy {
+
+        private static final int SPINS = 100;
+
+        private static final int YIELDS = 100;
+
+        private static final long SLEEP_NANOS = 100_000;
+
+        @Override
+        public long waitFor(long sequence, LongSupplier cursor, BooleanSupplier running) {
+            long available;
+            int counter = SPINS + YIELDS;
+            while ((available = cursor.getAsLong()) < sequence && running.getAsBoolean()) {
+                if (counter > YIELDS) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else if (counter > 0) {
+                    counter--;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            }
+            return available;
+        }
+    }
+
+    final class Yielding implements WaitStrategy {
+
+        private static final int SPINS = 100;
+
+        @Override
+        public long waitFor(long sequence, LongSupplier cursor, BooleanSupplier running) {
+            long available;
+            int counter = SPINS;
+            while ((available = cursor.getAsLong()) < sequence && running.getAsBoolean()) {
+                if (counter > 0) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            return available;
+        }
+    }
+
+    final class BusySpin implements WaitStrategy {
+
+        @Override
+        public long waitFor(long sequence, LongSupplier cursor, BooleanSupplier running) {
+            long available;
+            while ((available = cursor.getAsLong()) < sequence && running.getAsBoolean()) {
+                Thread.onSpinWait();
+            }
+            return available;
+        }
+    }
+}
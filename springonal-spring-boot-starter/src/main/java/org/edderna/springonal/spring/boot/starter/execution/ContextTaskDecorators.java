@@ -0,0 +1,52 @@
+package org.edderna.springonal.spring.boot.starter.execution;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ContextTaskDecorators {
+
+    private static final String CONTEXT_SNAPSHOT_FACTORY = "io.micrometer.context.ContextSnapshotFactory";
+
+    private static final String MDC = "org.slf4j.MDC";
+
+    private ContextTaskDecorators() {
+    }
+
+    public static TaskDecorator of(ObjectProvider<TaskDecorator> taskDecorators) {
+        List<TaskDecorator> decorators = new ArrayList<>();
+        ClassLoader classLoader = ContextTaskDecorators.class.getClassLoader();
+        if (ClassUtils.isPresent(CONTEXT_SNAPSHOT_FACTORY, classLoader)) {
+            decorators.add(new ContextPropagatingTaskDecorator());
+        } else if (ClassUtils.isPresent(MDC, classLoader)) {
+            decorators.add(new MdcTaskDecorator());
+        }
+        taskDecorators.orderedStream().forEach(decorators::add);
+        return new CompositeTaskDecorator(decorators);
+    }
+}
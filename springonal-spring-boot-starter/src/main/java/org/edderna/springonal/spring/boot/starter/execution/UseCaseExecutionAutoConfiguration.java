@@ -0,0 +1,54 @@
+package org.edderna.springonal.spring.boot.starter.execution;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = UseCaseExecutionProperties.PREFIX, name = "enabled", havingValue = "true")
+public class UseCaseExecutionAutoConfiguration {
+
+    public static final String USE_CASE_EXECUTOR_BEAN_NAME = "springonalUseCaseExecutor";
+
+    @Bean
+    public static UseCaseExecutionPostProcessor useCaseExecutionPostProcessor(
+            @Qualifier(USE_CASE_EXECUTOR_BEAN_NAME) ObjectProvider<AsyncTaskExecutor> executor) {
+        return new UseCaseExecutionPostProcessor(executor::getObject);
+    }
+
+    @Bean(name = USE_CASE_EXECUTOR_BEAN_NAME)
+    @ConditionalOnMissingBean(name = USE_CASE_EXECUTOR_BEAN_NAME)
+    public SimpleAsyncTaskExecutor springonalUseCaseExecutor(ObjectProvider<TaskDecorator> taskDecorators) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("springonal-use-case-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(ContextTaskDecorators.of(taskDecorators));
+        return executor;
+    }
+}
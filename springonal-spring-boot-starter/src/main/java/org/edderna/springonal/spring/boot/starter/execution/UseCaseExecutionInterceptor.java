@@ -0,0 +1,72 @@
+package org.edderna.springonal.spring.boot.starter.execution;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+public class UseCaseExecutionInterceptor implements MethodInterceptor {
+
+    private final SingletonSupplier<Executor> executor;
+
+    public UseCaseExecutionInterceptor(Supplier<? extends Executor> executor) {
+        this.executor = SingletonSupplier.of(executor::get);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> returnType = invocation.getMethod().getReturnType();
+        if (Future.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(CompletableFuture.class)) {
+            return CompletableFuture.supplyAsync(() -> unwrap(proceed(invocation)), executor.get());
+        }
+        return invocation.proceed();
+    }
+
+    private static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+        }
+    }
+
+    private static Object unwrap(Object result) {
+        if (!(result instanceof Future<?> future)) {
+            return result;
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+}
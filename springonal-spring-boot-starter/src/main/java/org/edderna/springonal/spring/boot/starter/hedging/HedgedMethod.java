@@ -0,0 +1,115 @@
+package org.edderna.springonal.spring.boot.starter.hedging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.spring.boot.starter.metrics.LatencyHistogram;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class HedgedMethod {
+
+    private static final long TOKEN = 1_000;
+
+    private final Class<?> adapter;
+
+    private final Method method;
+
+    private final HedgingProperties properties;
+
+    private final AtomicReference<LatencyHistogram> window = new AtomicReference<>(new LatencyHistogram());
+
+    private volatile long hedgeDelayNanos = -1;
+
+    private volatile long nextRefreshNanos = System.nanoTime();
+
+    private final AtomicLong tokens = new AtomicLong();
+
+    private final long tokensPerCall;
+
+    private final long maxTokens;
+
+    private final LongAdder hedges = new LongAdder();
+
+    private final LongAdder hedgeWins = new LongAdder();
+
+    HedgedMethod(Class<?> adapter, Method method, HedgingProperties properties) {
+        this.adapter = adapter;
+        this.method = method;
+        this.properties = properties;
+        this.tokensPerCall = Math.round(properties.getBudgetRatio() * TOKEN);
+        this.maxTokens = Math.max(1, properties.getMaxBurst()) * TOKEN;
+    }
+
+    public Class<?> getAdapter() {
+        return adapter;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    long hedgeDelayNanos() {
+        return hedgeDelayNanos;
+    }
+
+    void onCall() {
+        tokens.accumulateAndGet(tokensPerCall, (current, added) -> Math.min(maxTokens, current + added));
+    }
+
+    boolean tryHedge() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        hedges.increment();
+        return true;
+    }
+
+    void onCompleted(long elapsedNanos, boolean hedgeWon) {
+        LatencyHistogram latencies = window.get();
+        latencies.record(elapsedNanos);
+        if (hedgeWon) {
+            hedgeWins.increment();
+        }
+        long now = System.nanoTime();
+        if ((hedgeDelayNanos < 0 || now - nextRefreshNanos >= 0)
+                && latencies.count() >= properties.getMinSamples()
+                && window.compareAndSet(latencies, new LatencyHistogram())) {
+            hedgeDelayNanos = Math.max(properties.getMinDelay().toNanos(),
+                    latencies.snapshot().percentileNanos(properties.getPercentile()));
+            nextRefreshNanos = now + properties.getRefreshInterval().toNanos();
+        }
+    }
+}
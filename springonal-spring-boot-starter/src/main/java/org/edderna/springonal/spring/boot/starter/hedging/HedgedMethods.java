@@ -0,0 +1,68 @@
+package org.edderna.springonal.spring.boot.starter.hedging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class HedgedMethods {
+
+    private final HedgingProperties properties;
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, HedgedMethod>> methods = new ConcurrentHashMap<>();
+
+    private final List<Consumer<HedgedMethod>> listeners = new CopyOnWriteArrayList<>();
+
+    public HedgedMethods(HedgingProperties properties) {
+        this.properties = properties;
+    }
+
+    public HedgingProperties getProperties() {
+        return properties;
+    }
+
+    public HedgedMethod hedgedMethod(Class<?> adapter, Method method) {
+        ConcurrentMap<Method, HedgedMethod> adapterMethods = methods.get(adapter);
+        if (adapterMethods == null) {
+            adapterMethods = methods.computeIfAbsent(adapter, _ -> new ConcurrentHashMap<>());
+        }
+        HedgedMethod hedgedMethod = adapterMethods.get(method);
+        if (hedgedMethod == null) {
+            hedgedMethod = adapterMethods.computeIfAbsent(method, _ -> register(adapter, method));
+        }
+        return hedgedMethod;
+    }
+
+    public void onRegistration(Consumer<HedgedMethod> listener) {
+        listeners.add(listener);
+        methods.values().forEach(adapterMethods -> adapterMethods.values().forEach(listener));
+    }
+
+    private HedgedMethod register(Class<?> adapter, Method method) {
+        HedgedMethod hedgedMethod = new HedgedMethod(adapter, method, properties);
+        listeners.forEach(listener -> listener.accept(hedgedMethod));
+        return hedgedMethod;
+    }
+}
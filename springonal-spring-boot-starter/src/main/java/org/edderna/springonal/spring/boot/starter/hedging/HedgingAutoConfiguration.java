@@ -0,0 +1,60 @@
+package org.edderna.springonal.spring.boot.starter.hedging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.Executors;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = HedgingProperties.PREFIX, name = "enabled", havingValue = "true")
+public class HedgingAutoConfiguration {
+
+    @Bean
+    public static HedgedMethods hedgedMethods(Environment environment) {
+        return new HedgedMethods(Binder.get(environment)
+                .bindOrCreate(HedgingProperties.PREFIX, HedgingProperties.class));
+    }
+
+    @Bean
+    public static HedgingPostProcessor hedgingPostProcessor(HedgedMethods hedgedMethods) {
+        return new HedgingPostProcessor(hedgedMethods,
+                new HedgingInterceptor(hedgedMethods, Executors.newVirtualThreadPerTaskExecutor()));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class HedgingMeterConfiguration {
+
+        @Bean
+        public HedgingMetrics hedgingMetrics(HedgedMethods methods) {
+            return new HedgingMetrics(methods);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.edderna.springonal.spring.boot.starter.hedging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class HedgingInterceptor implements MethodInterceptor {
+
+    private final HedgedMethods methods;
+
+    private final ExecutorService executor;
+
+    public HedgingInterceptor(HedgedMethods methods, ExecutorService executor) {
+        this.methods = methods;
+        this.executor = executor;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        if (target == null || !(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+            return invocation.proceed();
+        }
+        HedgedMethod method = methods.hedgedMethod(AopUtils.getTargetClass(target), invocation.getMethod());
+        method.onCall();
+        long delay = method.hedgeDelayNanos();
+        if (delay < 0) {
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                method.onCompleted(System.nanoTime() - start, false);
+            }
+        }
+        return hedge(proxyInvocation, method, delay);
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Object hedge(ProxyMethodInvocation invocation, HedgedMethod method, long delay) throws Throwable {
+        CompletionService<Attempt> attempts = new ExecutorCompletionService<>(executor);
+        Future<Attempt> primary = attempts.submit(() -> attempt(invocation, false));
+        Future<Attempt> hedge = null;
+        try {
+            Future<Attempt> completed = attempts.poll(delay, TimeUnit.NANOSECONDS);
+            if (completed == null && method.tryHedge()) {
+                hedge = attempts.submit(() -> attempt(invocation, true));
+            }
+            int outstanding = hedge != null ? 2 : 1;
+            ExecutionException failure = null;
+            while (outstanding-- > 0) {
+                if (completed == null) {
+                    completed = attempts.take();
+                }
+                try {
+                    Attempt attempt = completed.get();
+                    method.onCompleted(attempt.elapsedNanos(), attempt.hedge());
+                    return attempt.result();
+                } catch (ExecutionException e) {
+                    failure = failure != null ? failure : e;
+                    completed = null;
+                }
+            }
+            throw failure.getCause();
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private static Attempt attempt(ProxyMethodInvocation invocation, boolean hedge) throws Exception {
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.invocableClone().proceed();
+            return new Attempt(result, System.nanoTime() - start, hedge);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ExecutionException(e);
+        }
+    }
+
+    private record Attempt(Object result, long elapsedNanos, boolean hedge) {
+    }
+}
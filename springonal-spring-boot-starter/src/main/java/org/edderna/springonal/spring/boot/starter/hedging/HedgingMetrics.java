@@ -0,0 +1,50 @@
+package org.edderna.springonal.spring.boot.starter.hedging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class HedgingMetrics implements MeterBinder {
+
+    private final HedgedMethods methods;
+
+    public HedgingMetrics(HedgedMethods methods) {
+        this.methods = methods;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        methods.onRegistration(method -> {
+            Tags tags = Tags.of("adapter", method.getAdapter().getName(), "method", method.getMethod().getName());
+            FunctionCounter.builder("springonal.adapter.hedge.requests", method, HedgedMethod::getHedges)
+                    .tags(tags)
+                    .description("Hedged calls sent to an outbound API adapter")
+                    .register(registry);
+            FunctionCounter.builder("springonal.adapter.hedge.wins", method, HedgedMethod::getHedgeWins)
+                    .tags(tags)
+                    .description("Hedged calls that replied before the original call")
+                    .register(registry);
+        });
+    }
+}
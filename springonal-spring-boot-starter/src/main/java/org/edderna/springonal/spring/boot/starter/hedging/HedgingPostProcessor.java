@@ -0,0 +1,60 @@
+package org.edderna.springonal.spring.boot.starter.hedging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.infrastructure.Idempotent;
+import org.edderna.springonal.annotations.infrastructure.OutboundApiAdapter;
+import org.edderna.springonal.spring.boot.starter.SpringonalAdvisingPostProcessor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+public class HedgingPostProcessor extends SpringonalAdvisingPostProcessor implements DisposableBean {
+
+    private final HedgingInterceptor interceptor;
+
+    public HedgingPostProcessor(HedgedMethods methods, HedgingInterceptor interceptor) {
+        super(HEDGING_ORDER);
+        this.interceptor = interceptor;
+        Set<String> configuredMethods = methods.getProperties().getMethods();
+        ClassFilter apiAdapters = type -> AnnotatedElementUtils.hasAnnotation(type, OutboundApiAdapter.class);
+        StaticMethodMatcher idempotentMethods = new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+                return AnnotatedElementUtils.hasAnnotation(specificMethod, Idempotent.class)
+                        || configuredMethods.contains(targetClass.getName() + "#" + method.getName());
+            }
+        };
+        advise(new ComposablePointcut(apiAdapters, idempotentMethods), interceptor);
+    }
+
+    @Override
+    public void destroy() {
+        interceptor.shutdown();
+    }
+}
@@ -0,0 +1,90 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CpuBoundExecutor implements Executor, DisposableBean {
+
+    private final ThreadPoolExecutor pool;
+
+    private final TaskDecorator taskDecorator;
+
+    private final LongAdder rejections = new LongAdder();
+
+    public CpuBoundExecutor(ExecutorIsolationProperties.Cpu properties, TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> new Worker(runnable, "springonal-cpu-" + counter.incrementAndGet()),
+                (runnable, executor) -> {
+                    rejections.increment();
+                    new ThreadPoolExecutor.AbortPolicy().rejectedExecution(runnable, executor);
+                });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        pool.execute(taskDecorator.decorate(command));
+    }
+
+    public boolean isWorkerThread() {
+        return Thread.currentThread() instanceof Worker;
+    }
+
+    public int getQueueDepth() {
+        return pool.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return pool.getActiveCount();
+    }
+
+    public int getThreads() {
+        return pool.getMaximumPoolSize();
+    }
+
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    private static final class Worker extends Thread {
+
+        private Worker(Runnable runnable, String name) {
+            super(runnable, name);
+            setDaemon(true);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.concurrent.CompletableFuture;
+
+public class CpuBoundUseCaseInterceptor implements MethodInterceptor {
+
+    private final CpuBoundExecutor executor;
+
+    public CpuBoundUseCaseInterceptor(CpuBoundExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (executor.isWorkerThread() || invocation.getMethod().getDeclaringClass() == Object.class
+                || IsolatedCalls.isTransactionActive()) {
+            return invocation.proceed();
+        }
+        if (invocation.getMethod().getReturnType() == void.class) {
+            IsolatedCalls.await(CompletableFuture.runAsync(() -> IsolatedCalls.proceed(invocation), executor));
+            return null;
+        }
+        if (IsolatedCalls.returnsFuture(invocation)) {
+            return CompletableFuture.supplyAsync(() -> IsolatedCalls.unwrap(IsolatedCalls.proceed(invocation)), executor);
+        }
+        return IsolatedCalls.await(CompletableFuture.supplyAsync(() -> IsolatedCalls.proceed(invocation), executor));
+    }
+}
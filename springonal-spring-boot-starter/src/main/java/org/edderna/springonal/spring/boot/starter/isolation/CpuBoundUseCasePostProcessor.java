@@ -0,0 +1,41 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.ExecutionMode;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.spring.boot.starter.SpringonalAdvisingPostProcessor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+public class CpuBoundUseCasePostProcessor extends SpringonalAdvisingPostProcessor {
+
+    public CpuBoundUseCasePostProcessor(CpuBoundExecutor executor) {
+        super(CPU_BOUND_USE_CASE_ORDER);
+        ClassFilter cpuBoundUseCases = type -> {
+            UseCase useCase = AnnotatedElementUtils.findMergedAnnotation(type, UseCase.class);
+            return useCase != null && useCase.executionMode() == ExecutionMode.CPU_BOUND;
+        };
+        advise(new ComposablePointcut(cpuBoundUseCases),
+                new CpuBoundUseCaseInterceptor(executor));
+    }
+}
@@ -0,0 +1,83 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.edderna.springonal.spring.boot.starter.execution.ContextTaskDecorators;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Isolates CPU_BOUND use cases on a bounded platform pool and outbound API and database adapters on
+ * per-adapter bulkheads over virtual threads. Inbound adapters are not advised: they already run on the
+ * threads of the server or listener container that dispatches to them, which is the pool that isolates them.
+ * Calls made inside an active transaction stay on the caller's thread, so the transaction and its
+ * resources remain visible to the adapter.
+ */
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = ExecutorIsolationProperties.PREFIX, name = "enabled", havingValue = "true")
+public class ExecutorIsolationAutoConfiguration {
+
+    @Bean
+    public static CpuBoundExecutor springonalCpuBoundExecutor(Environment environment,
+                                                              ObjectProvider<TaskDecorator> taskDecorators) {
+        return new CpuBoundExecutor(properties(environment).getCpu(), ContextTaskDecorators.of(taskDecorators));
+    }
+
+    @Bean
+    public static OutboundBulkheads outboundBulkheads(Environment environment,
+                                                      ObjectProvider<TaskDecorator> taskDecorators) {
+        return new OutboundBulkheads(properties(environment).getOutbound(), ContextTaskDecorators.of(taskDecorators));
+    }
+
+    @Bean
+    public static CpuBoundUseCasePostProcessor cpuBoundUseCasePostProcessor(CpuBoundExecutor springonalCpuBoundExecutor) {
+        return new CpuBoundUseCasePostProcessor(springonalCpuBoundExecutor);
+    }
+
+    @Bean
+    public static OutboundIsolationPostProcessor outboundIsolationPostProcessor(OutboundBulkheads outboundBulkheads) {
+        return new OutboundIsolationPostProcessor(outboundBulkheads);
+    }
+
+    private static ExecutorIsolationProperties properties(Environment environment) {
+        return Binder.get(environment).bindOrCreate(ExecutorIsolationProperties.PREFIX, ExecutorIsolationProperties.class);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class ExecutorIsolationMeterConfiguration {
+
+        @Bean
+        public ExecutorIsolationMetrics executorIsolationMetrics(CpuBoundExecutor springonalCpuBoundExecutor,
+                                                                 OutboundBulkheads outboundBulkheads) {
+            return new ExecutorIsolationMetrics(springonalCpuBoundExecutor, outboundBulkheads);
+        }
+    }
+}
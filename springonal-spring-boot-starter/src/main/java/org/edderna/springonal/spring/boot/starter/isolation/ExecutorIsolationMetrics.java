@@ -0,0 +1,81 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class ExecutorIsolationMetrics implements MeterBinder {
+
+    private final CpuBoundExecutor cpuBoundExecutor;
+
+    private final OutboundBulkheads bulkheads;
+
+    public ExecutorIsolationMetrics(CpuBoundExecutor cpuBoundExecutor, OutboundBulkheads bulkheads) {
+        this.cpuBoundExecutor = cpuBoundExecutor;
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags useCases = Tags.of("layer", "use-case");
+        Gauge.builder("springonal.layer.queue.depth", cpuBoundExecutor, CpuBoundExecutor::getQueueDepth)
+                .tags(useCases)
+                .description("Calls waiting for a thread of an isolated layer")
+                .register(registry);
+        Gauge.builder("springonal.layer.active", cpuBoundExecutor, CpuBoundExecutor::getActiveCount)
+                .tags(useCases)
+                .description("Calls currently running in an isolated layer")
+                .register(registry);
+        Gauge.builder("springonal.layer.saturation", cpuBoundExecutor,
+                        executor -> (double) executor.getActiveCount() / executor.getThreads())
+                .tags(useCases)
+                .description("Share of an isolated layer's capacity in use")
+                .register(registry);
+        FunctionCounter.builder("springonal.layer.rejections", cpuBoundExecutor, CpuBoundExecutor::getRejections)
+                .tags(useCases)
+                .description("Calls rejected because an isolated layer was full")
+                .register(registry);
+        bulkheads.onRegistration((adapter, bulkhead) -> {
+            Tags tags = Tags.of("layer", "outbound", "adapter", adapter.getName());
+            Gauge.builder("springonal.layer.queue.depth", bulkhead, OutboundBulkheads.Bulkhead::getWaiting)
+                    .tags(tags)
+                    .description("Calls waiting for a thread of an isolated layer")
+                    .register(registry);
+            Gauge.builder("springonal.layer.active", bulkhead, OutboundBulkheads.Bulkhead::getInFlight)
+                    .tags(tags)
+                    .description("Calls currently running in an isolated layer")
+                    .register(registry);
+            Gauge.builder("springonal.layer.saturation", bulkhead,
+                            b -> (double) b.getInFlight() / b.getMaxConcurrency())
+                    .tags(tags)
+                    .description("Share of an isolated layer's capacity in use")
+                    .register(registry);
+            FunctionCounter.builder("springonal.layer.rejections", bulkhead, OutboundBulkheads.Bulkhead::getRejections)
+                    .tags(tags)
+                    .description("Calls rejected because an isolated layer was full")
+                    .register(registry);
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = ExecutorIsolationProperties.PREFIX)
+public class ExecutorIsolationProperties {
+
+    public static final String PREFIX = "springonal.isolation";
+
+    private boolean enabled;
+
+    private final Cpu cpu = new Cpu();
+
+    private final Outbound outbound = new Outbound();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Cpu getCpu() {
+        return cpu;
+    }
+
+    public Outbound getOutbound() {
+        return outbound;
+    }
+
+    public static class Cpu {
+
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        private int queueCapacity = 1024;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    public static class Outbound {
+
+        private int maxConcurrency = 64;
+
+        private Duration acquireTimeout = Duration.ofSeconds(5);
+
+        private Map<String, Integer> adapters = new LinkedHashMap<>();
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public Duration getAcquireTimeout() {
+            return acquireTimeout;
+        }
+
+        public void setAcquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        public Map<String, Integer> getAdapters() {
+            return adapters;
+        }
+
+        public void setAdapters(Map<String, Integer> adapters) {
+            this.adapters = adapters;
+        }
+
+        public int getMaxConcurrency(Class<?> adapter) {
+            return adapters.getOrDefault(adapter.getName(), maxConcurrency);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+final class IsolatedCalls {
+
+    private static final boolean transactionsPresent = ClassUtils.isPresent(
+            "org.springframework.transaction.support.TransactionSynchronizationManager",
+            IsolatedCalls.class.getClassLoader());
+
+    private IsolatedCalls() {
+    }
+
+    static boolean isTransactionActive() {
+        return transactionsPresent && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    static boolean returnsFuture(MethodInvocation invocation) {
+        Class<?> returnType = invocation.getMethod().getReturnType();
+        return Future.class.isAssignableFrom(returnType) && returnType.isAssignableFrom(CompletableFuture.class);
+    }
+
+    static <T> T await(Future<T> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof CompletionException completion && completion.getCause() != null
+                    ? completion.getCause()
+                    : e.getCause();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            throw completion(e);
+        }
+    }
+
+    static CompletionException completion(Throwable e) {
+        return e instanceof CompletionException completion ? completion : new CompletionException(e);
+    }
+
+    static Object unwrap(Object result) {
+        if (!(result instanceof Future<?> future)) {
+            return result;
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+public class OutboundBulkheads implements DisposableBean {
+
+    private final ExecutorIsolationProperties.Outbound properties;
+
+    private final ExecutorService virtualThreads = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("springonal-outbound-", 0).factory());
+
+    private final Executor executor;
+
+    private final ConcurrentMap<Class<?>, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    private final List<BiConsumer<Class<?>, Bulkhead>> listeners = new CopyOnWriteArrayList<>();
+
+    public OutboundBulkheads(ExecutorIsolationProperties.Outbound properties, TaskDecorator taskDecorator) {
+        this.properties = properties;
+        this.executor = command -> virtualThreads.execute(taskDecorator.decorate(command));
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public Bulkhead bulkhead(Class<?> adapter) {
+        Bulkhead bulkhead = bulkheads.get(adapter);
+        if (bulkhead == null) {
+            bulkhead = bulkheads.computeIfAbsent(adapter, this::register);
+        }
+        return bulkhead;
+    }
+
+    public void onRegistration(BiConsumer<Class<?>, Bulkhead> listener) {
+        listeners.add(listener);
+        bulkheads.forEach(listener);
+    }
+
+    @Override
+    public void destroy() {
+        virtualThreads.shutdownNow();
+    }
+
+    private Bulkhead register(Class<?> adapter) {
+        Bulkhead bulkhead = new Bulkhead(adapter.getName(), properties.getMaxConcurrency(adapter),
+                properties.getAcquireTimeout().toNanos());
+        listeners.forEach(listener -> listener.accept(adapter, bulkhead));
+        return bulkhead;
+    }
+
+    public static final class Bulkhead {
+
+        private final String adapter;
+
+        private final int maxConcurrency;
+
+        private final long acquireTimeoutNanos;
+
+        private final Semaphore permits;
+
+        private final LongAdder rejections = new LongAdder();
+
+        private Bulkhead(String adapter, int maxConcurrency, long acquireTimeoutNanos) {
+            this.adapter = adapter;
+            this.maxConcurrency = maxConcurrency;
+            this.acquireTimeoutNanos = acquireTimeoutNanos;
+            this.permits = new Semaphore(maxConcurrency, true);
+        }
+
+        void acquire() throws InterruptedException {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejections.increment();
+                throw new RejectedExecutionException("Outbound adapter " + adapter + " has " + maxConcurrency
+                        + " calls in flight");
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public int getInFlight() {
+            return maxConcurrency - permits.availablePermits();
+        }
+
+        public int getWaiting() {
+            return permits.getQueueLength();
+        }
+
+        public long getRejections() {
+            return rejections.sum();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+public class OutboundIsolationInterceptor implements MethodInterceptor {
+
+    private final OutboundBulkheads bulkheads;
+
+    public OutboundIsolationInterceptor(OutboundBulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        if (target == null || invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        OutboundBulkheads.Bulkhead bulkhead = bulkheads.bulkhead(AopUtils.getTargetClass(target));
+        if (IsolatedCalls.isTransactionActive()) {
+            return call(bulkhead, invocation);
+        }
+        if (IsolatedCalls.returnsFuture(invocation)) {
+            return CompletableFuture.supplyAsync(() -> IsolatedCalls.unwrap(isolate(bulkhead, invocation)),
+                    bulkheads.getExecutor());
+        }
+        if (Thread.currentThread().isVirtual()) {
+            return call(bulkhead, invocation);
+        }
+        return IsolatedCalls.await(CompletableFuture.supplyAsync(() -> isolate(bulkhead, invocation),
+                bulkheads.getExecutor()));
+    }
+
+    private static Object isolate(OutboundBulkheads.Bulkhead bulkhead, MethodInvocation invocation) {
+        try {
+            return call(bulkhead, invocation);
+        } catch (Throwable e) {
+            throw IsolatedCalls.completion(e);
+        }
+    }
+
+    private static Object call(OutboundBulkheads.Bulkhead bulkhead, MethodInvocation invocation) throws Throwable {
+        bulkhead.acquire();
+        try {
+            return invocation.proceed();
+        } finally {
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.edderna.springonal.spring.boot.starter.limiter;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int MIN_RTT_RESET_SAMPLES = 1_000;
+
+    private static final long MAX_PARK_NANOS = 1_000_000;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double backoffRatio;
+
+    private final double tolerance;
+
+    private final long maxWaitNanos;
+
+    private final AtomicInteger limit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger successesSinceIncrease = new AtomicInteger();
+
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    private final ConcurrentMap<Object, MinRtt> minRtts = new ConcurrentHashMap<>();
+
+    private final LongAdder rejections = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimiterProperties properties) {
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.backoffRatio = properties.getBackoffRatio();
+        this.tolerance = properties.getTolerance();
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.limit = new AtomicInteger(Math.clamp(properties.getInitialLimit(), minLimit, maxLimit));
+    }
+
+    public boolean tryAcquire() {
+        if (acquire()) {
+            return true;
+        }
+        long deadline = System.nanoTime() + maxWaitNanos;
+        long park = 1_000;
+        while (maxWaitNanos > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Math.min(park, deadline - System.nanoTime()));
+            if (acquire()) {
+                return true;
+            }
+            park = Math.min(park << 1, MAX_PARK_NANOS);
+        }
+        rejections.increment();
+        return false;
+    }
+
+    public void release(Object operation, long rttNanos) {
+        release(operation, rttNanos, false);
+    }
+
+    public void release(Object operation, long rttNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        if (failed) {
+            decrease(rttNanos);
+            return;
+        }
+        MinRtt operationMinRtt = minRtts.get(operation);
+        if (operationMinRtt == null) {
+            operationMinRtt = minRtts.computeIfAbsent(operation, _ -> new MinRtt());
+        }
+        long minRtt = operationMinRtt.update(rttNanos);
+        if (rttNanos > minRtt * tolerance) {
+            decrease(rttNanos);
+        } else {
+            increase();
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    private boolean acquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void increase() {
+        int current = limit.get();
+        if (current >= maxLimit || inFlight.get() * 2 < current) {
+            return;
+        }
+        if (successesSinceIncrease.incrementAndGet() >= current) {
+            successesSinceIncrease.set(0);
+            limit.compareAndSet(current, current + 1);
+        }
+    }
+
+    private void decrease(long rttNanos) {
+        long now = System.nanoTime();
+        long startedAt = now - rttNanos;
+        long last = lastDecreaseNanos.get();
+        if (startedAt - last < 0 || !lastDecreaseNanos.compareAndSet(last, now)) {
+            return;
+        }
+        limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+        successesSinceIncrease.set(0);
+    }
+
+    private static final class MinRtt {
+
+        private final AtomicLong nanos = new AtomicLong(Long.MAX_VALUE);
+
+        private final AtomicLong windowNanos = new AtomicLong(Long.MAX_VALUE);
+
+        private final AtomicInteger samples = new AtomicInteger();
+
+        long update(long rttNanos) {
+            long windowMin = windowNanos.accumulateAndGet(rttNanos, Math::min);
+            if (samples.incrementAndGet() % MIN_RTT_RESET_SAMPLES == 0) {
+                windowNanos.set(Long.MAX_VALUE);
+                nanos.set(windowMin);
+                return windowMin;
+            }
+            return nanos.accumulateAndGet(rttNanos, Math::min);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.edderna.springonal.spring.boot.starter.limiter;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = ConcurrencyLimiterProperties.PREFIX, name = "enabled", havingValue = "true")
+public class ConcurrencyLimiterAutoConfiguration {
+
+    @Bean
+    public static ConcurrencyLimiters concurrencyLimiters(Environment environment) {
+        return new ConcurrencyLimiters(Binder.get(environment)
+                .bindOrCreate(ConcurrencyLimiterProperties.PREFIX, ConcurrencyLimiterProperties.class));
+    }
+
+    @Bean
+    public static ConcurrencyLimiterPostProcessor concurrencyLimiterPostProcessor(ConcurrencyLimiters concurrencyLimiters) {
+        return new ConcurrencyLimiterPostProcessor(concurrencyLimiters);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class ConcurrencyLimiterMeterConfiguration {
+
+        @Bean
+        public ConcurrencyLimiterMetrics concurrencyLimiterMetrics(ConcurrencyLimiters limiters) {
+            return new ConcurrencyLimiterMetrics(limiters);
+        }
+    }
+}
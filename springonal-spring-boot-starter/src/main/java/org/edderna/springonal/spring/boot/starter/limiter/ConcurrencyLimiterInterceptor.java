@@ -0,0 +1,56 @@
+package org.edderna.springonal.spring.boot.starter.limiter;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+public class ConcurrencyLimiterInterceptor implements MethodInterceptor {
+
+    private final ConcurrencyLimiters limiters;
+
+    public ConcurrencyLimiterInterceptor(ConcurrencyLimiters limiters) {
+        this.limiters = limiters;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        if (target == null || invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Class<?> adapter = AopUtils.getTargetClass(target);
+        AdaptiveConcurrencyLimiter limiter = limiters.limiter(adapter);
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(adapter.getName(), limiter.getLimit());
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            limiter.release(invocation.getMethod(), System.nanoTime() - start, failed);
+        }
+    }
+}
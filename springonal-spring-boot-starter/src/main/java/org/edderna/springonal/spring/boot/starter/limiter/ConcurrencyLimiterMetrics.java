@@ -0,0 +1,56 @@
+package org.edderna.springonal.spring.boot.starter.limiter;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class ConcurrencyLimiterMetrics implements MeterBinder {
+
+    private final ConcurrencyLimiters limiters;
+
+    public ConcurrencyLimiterMetrics(ConcurrencyLimiters limiters) {
+        this.limiters = limiters;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.onRegistration((adapter, limiter) -> {
+            Tags tags = Tags.of("adapter", adapter.getName());
+            Gauge.builder("springonal.adapter.concurrency.limit", limiter::getLimit)
+                    .tags(tags)
+                    .description("Current concurrency limit of an outbound adapter")
+                    .register(registry);
+            Gauge.builder("springonal.adapter.concurrency.in-flight", limiter::getInFlight)
+                    .tags(tags)
+                    .description("Calls currently in flight on an outbound adapter")
+                    .register(registry);
+            FunctionCounter.builder("springonal.adapter.concurrency.rejections", limiter,
+                            AdaptiveConcurrencyLimiter::getRejections)
+                    .tags(tags)
+                    .description("Calls rejected because an outbound adapter reached its concurrency limit")
+                    .register(registry);
+        });
+    }
+}
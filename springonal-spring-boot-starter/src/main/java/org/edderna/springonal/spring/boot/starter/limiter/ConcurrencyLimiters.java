@@ -0,0 +1,59 @@
+package org.edderna.springonal.spring.boot.starter.limiter;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+public class ConcurrencyLimiters {
+
+    private final ConcurrencyLimiterProperties properties;
+
+    private final ConcurrentMap<Class<?>, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    private final List<BiConsumer<Class<?>, AdaptiveConcurrencyLimiter>> listeners = new CopyOnWriteArrayList<>();
+
+    public ConcurrencyLimiters(ConcurrencyLimiterProperties properties) {
+        this.properties = properties;
+    }
+
+    public AdaptiveConcurrencyLimiter limiter(Class<?> adapter) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(adapter);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(adapter, this::register);
+        }
+        return limiter;
+    }
+
+    public void onRegistration(BiConsumer<Class<?>, AdaptiveConcurrencyLimiter> listener) {
+        listeners.add(listener);
+        limiters.forEach(listener);
+    }
+
+    private AdaptiveConcurrencyLimiter register(Class<?> adapter) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        listeners.forEach(listener -> listener.accept(adapter, limiter));
+        return limiter;
+    }
+}
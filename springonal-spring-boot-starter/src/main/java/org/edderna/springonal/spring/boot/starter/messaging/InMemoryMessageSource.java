@@ -0,0 +1,72 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class InMemoryMessageSource implements MessageSource {
+
+    private final Map<String, BlockingQueue<InboundMessage<?>>> destinations = new ConcurrentHashMap<>();
+
+    private final Map<String, List<InboundMessage<?>>> rejected = new ConcurrentHashMap<>();
+
+    public void send(String destination, Object key, Object payload) {
+        queue(destination).add(new InboundMessage<>(key, payload));
+    }
+
+    public int pending(String destination) {
+        return queue(destination).size();
+    }
+
+    public List<InboundMessage<?>> rejected(String destination) {
+        return List.copyOf(rejected.getOrDefault(destination, List.of()));
+    }
+
+    @Override
+    public List<InboundMessage<?>> poll(String destination, int maxMessages, Duration timeout) throws InterruptedException {
+        BlockingQueue<InboundMessage<?>> queue = queue(destination);
+        InboundMessage<?> first = queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<InboundMessage<?>> messages = new ArrayList<>(maxMessages);
+        messages.add(first);
+        queue.drainTo(messages, maxMessages - 1);
+        return messages;
+    }
+
+    @Override
+    public void reject(String destination, List<InboundMessage<?>> messages, Exception cause) {
+        rejected.computeIfAbsent(destination, _ -> new CopyOnWriteArrayList<>()).addAll(messages);
+    }
+
+    private BlockingQueue<InboundMessage<?>> queue(String destination) {
+        return destinations.computeIfAbsent(destination, _ -> new LinkedBlockingQueue<>());
+    }
+}
@@ -0,0 +1,89 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.context.SmartLifecycle;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class MessageConsumers implements SmartLifecycle {
+
+    private final MessagingProperties properties;
+
+    private final Map<String, MessageLanes> consumers = new ConcurrentHashMap<>();
+
+    private final List<Consumer<MessageLanes>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+
+    public MessageConsumers(MessagingProperties properties) {
+        this.properties = properties;
+    }
+
+    public MessagingProperties getProperties() {
+        return properties;
+    }
+
+    public Collection<MessageLanes> getConsumers() {
+        return consumers.values();
+    }
+
+    public void onRegistration(Consumer<MessageLanes> listener) {
+        listeners.add(listener);
+        consumers.values().forEach(listener);
+    }
+
+    synchronized void register(MessageLanes lanes) {
+        if (consumers.putIfAbsent(lanes.getName(), lanes) != null) {
+            throw new IllegalStateException("Message handler " + lanes.getName() + " is already registered");
+        }
+        if (running) {
+            lanes.start();
+        }
+        listeners.forEach(listener -> listener.accept(lanes));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!running) {
+            running = true;
+            consumers.values().forEach(MessageLanes::start);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (running) {
+            consumers.values().forEach(lanes -> lanes.stop(properties.getShutdownTimeout()));
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
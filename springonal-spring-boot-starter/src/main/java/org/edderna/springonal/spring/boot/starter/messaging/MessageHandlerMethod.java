@@ -0,0 +1,82 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+final class MessageHandlerMethod {
+
+    private final Object bean;
+
+    private final Method method;
+
+    private final boolean batched;
+
+    private final boolean wholeMessage;
+
+    MessageHandlerMethod(Object bean, Method method) {
+        if (method.getParameterCount() != 1) {
+            throw new IllegalStateException("@MessageHandler method " + method + " must declare exactly one parameter");
+        }
+        this.bean = bean;
+        this.method = method;
+        this.batched = List.class.equals(method.getParameterTypes()[0]);
+        ResolvableType parameter = ResolvableType.forMethodParameter(method, 0);
+        Class<?> element = batched ? parameter.getGeneric(0).resolve() : parameter.resolve();
+        this.wholeMessage = InboundMessage.class.equals(element);
+        ReflectionUtils.makeAccessible(method);
+    }
+
+    boolean isBatched() {
+        return batched;
+    }
+
+    void handleBatch(List<InboundMessage<?>> messages) throws Exception {
+        if (wholeMessage) {
+            invoke(List.copyOf(messages));
+            return;
+        }
+        List<Object> payloads = new ArrayList<>(messages.size());
+        messages.forEach(message -> payloads.add(message.payload()));
+        invoke(payloads);
+    }
+
+    void handle(InboundMessage<?> message) throws Exception {
+        invoke(wholeMessage ? message : message.payload());
+    }
+
+    private void invoke(Object argument) throws Exception {
+        try {
+            method.invoke(bean, argument);
+        } catch (InvocationTargetException e) {
+            if (e.getTargetException() instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+    }
+}
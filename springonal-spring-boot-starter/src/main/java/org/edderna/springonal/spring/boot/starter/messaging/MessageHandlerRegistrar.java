@@ -0,0 +1,89 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.interfaces.IndoundMessageAdapter;
+import org.edderna.springonal.annotations.interfaces.MessageHandler;
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+public class MessageHandlerRegistrar implements SmartInitializingSingleton, BeanFactoryAware {
+
+    private final MessageConsumers consumers;
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public MessageHandlerRegistrar(MessageConsumers consumers) {
+        this.consumers = consumers;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : beanFactory.getBeanNamesForType(Object.class, false, false)) {
+            if (ScopedProxyUtils.isScopedTarget(beanName)) {
+                continue;
+            }
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type == null || !AnnotatedElementUtils.hasAnnotation(ClassUtils.getUserClass(type), IndoundMessageAdapter.class)) {
+                continue;
+            }
+            Map<Method, MessageHandler> methods = MethodIntrospector.selectMethods(ClassUtils.getUserClass(type),
+                    (MethodIntrospector.MetadataLookup<MessageHandler>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, MessageHandler.class));
+            if (methods.isEmpty()) {
+                continue;
+            }
+            Object bean = beanFactory.getBean(beanName);
+            methods.forEach((method, annotation) -> consumers.register(lanes(beanName, bean, method, annotation)));
+        }
+    }
+
+    private MessageLanes lanes(String beanName, Object bean, Method method, MessageHandler annotation) {
+        MessagingProperties properties = consumers.getProperties();
+        MessageSource source = annotation.source().isEmpty()
+                ? beanFactory.getBean(MessageSource.class)
+                : beanFactory.getBean(annotation.source(), MessageSource.class);
+        return new MessageLanes(beanName + "#" + method.getName(), annotation.destination(), source,
+                new MessageHandlerMethod(bean, AopUtils.selectInvocableMethod(method, bean.getClass())),
+                annotation.lanes() > 0 ? annotation.lanes() : properties.getLanes(),
+                properties.getQueueCapacity(),
+                annotation.maxBatchSize() > 0 ? annotation.maxBatchSize() : properties.getMaxBatchSize(),
+                properties.getPollTimeout(),
+                properties.getPollBackoff(),
+                properties.getMaxPollBackoff());
+    }
+}
@@ -0,0 +1,312 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class MessageLanes {
+
+    private static final Log logger = LogFactory.getLog(MessageLanes.class);
+
+    private final String name;
+
+    private final String destination;
+
+    private final MessageSource source;
+
+    private final MessageHandlerMethod handler;
+
+    private final int maxBatchSize;
+
+    private final Duration pollTimeout;
+
+    private final Duration pollBackoff;
+
+    private final Duration maxPollBackoff;
+
+    private final Lane[] lanes;
+
+    private final AtomicInteger unkeyed = new AtomicInteger();
+
+    private volatile boolean polling;
+
+    private volatile boolean running;
+
+    private Thread dispatcher;
+
+    MessageLanes(String name, String destination, MessageSource source, MessageHandlerMethod handler,
+                 int laneCount, int queueCapacity, int maxBatchSize, Duration pollTimeout,
+                 Duration pollBackoff, Duration maxPollBackoff) {
+        if (laneCount < 1 || queueCapacity < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Lanes, queue capacity and batch size of " + name + " must be positive");
+        }
+        this.name = name;
+        this.destination = destination;
+        this.source = source;
+        this.handler = handler;
+        this.maxBatchSize = maxBatchSize;
+        this.pollTimeout = pollTimeout;
+        this.pollBackoff = pollBackoff;
+        this.maxPollBackoff = maxPollBackoff;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(queueCapacity);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    public int getDepth(int lane) {
+        return lanes[lane].queue.size();
+    }
+
+    public double getLag(int lane, TimeUnit unit) {
+        Envelope head = lanes[lane].queue.peek();
+        return head == null ? 0 : (double) (System.nanoTime() - head.enqueuedNanos()) / unit.toNanos(1);
+    }
+
+    public long getProcessed(int lane) {
+        return lanes[lane].processed.sum();
+    }
+
+    public long getFailures(int lane) {
+        return lanes[lane].failures.sum();
+    }
+
+    int laneFor(Object key) {
+        if (key == null) {
+            return Math.floorMod(unkeyed.getAndIncrement(), lanes.length);
+        }
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        polling = true;
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i].thread = Thread.ofPlatform()
+                    .name("springonal-messaging-" + name + "-" + i)
+                    .daemon()
+                    .start(lanes[i]);
+        }
+        dispatcher = Thread.ofPlatform()
+                .name("springonal-messaging-" + name)
+                .daemon()
+                .start(this::dispatch);
+    }
+
+    synchronized void stop(Duration timeout) {
+        if (!running) {
+            return;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        polling = false;
+        join(dispatcher, deadline);
+        running = false;
+        for (Lane lane : lanes) {
+            join(lane.thread, deadline);
+        }
+    }
+
+    private void dispatch() {
+        Duration backoff = Duration.ZERO;
+        while (polling) {
+            List<InboundMessage<?>> messages;
+            try {
+                messages = source.poll(destination, maxBatchSize, pollTimeout);
+                backoff = Duration.ZERO;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                backoff = backoff.isZero() ? pollBackoff : min(backoff.multipliedBy(2), maxPollBackoff);
+                logger.warn("Message source of " + name + " failed, polling again in " + backoff, e);
+                if (!backOff(backoff)) {
+                    return;
+                }
+                continue;
+            }
+            for (int i = 0; i < messages.size(); i++) {
+                InboundMessage<?> message = messages.get(i);
+                try {
+                    lanes[laneFor(message.key())].queue.put(new Envelope(message, System.nanoTime()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    reject(messages.subList(i, messages.size()), e);
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean backOff(Duration backoff) {
+        long deadline = System.nanoTime() + backoff.toNanos();
+        try {
+            long remaining;
+            while (polling && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, pollTimeout.toNanos()));
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void acknowledge(List<InboundMessage<?>> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            source.acknowledge(destination, List.copyOf(messages));
+        } catch (RuntimeException e) {
+            logger.error("Message source of " + name + " failed to acknowledge " + messages.size() + " message(s)", e);
+        }
+    }
+
+    private void reject(List<InboundMessage<?>> messages, Exception cause) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            source.reject(destination, List.copyOf(messages), cause);
+        } catch (RuntimeException e) {
+            logger.error("Message source of " + name + " failed to reject " + messages.size() + " message(s)", e);
+        }
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private static void join(Thread thread, long deadline) {
+        try {
+            if (!thread.join(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())))) {
+                thread.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            thread.interrupt();
+        }
+    }
+
+    private record Envelope(InboundMessage<?> message, long enqueuedNanos) {
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Envelope> queue;
+
+        private final List<Envelope> drained = new ArrayList<>();
+
+        private final List<InboundMessage<?>> batch = new ArrayList<>();
+
+        private final LongAdder processed = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private Thread thread;
+
+        private Lane(int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running || !queue.isEmpty()) {
+                    Envelope first = queue.poll(pollTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    drained.add(first);
+                    queue.drainTo(drained, maxBatchSize - 1);
+                    deliver();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(drained);
+                drained.forEach(envelope -> batch.add(envelope.message()));
+                reject(batch, e);
+                drained.clear();
+                batch.clear();
+            }
+        }
+
+        private void deliver() {
+            try {
+                if (handler.isBatched()) {
+                    drained.forEach(envelope -> batch.add(envelope.message()));
+                    try {
+                        handler.handleBatch(batch);
+                        acknowledge(batch);
+                    } catch (Exception e) {
+                        failed(batch, e);
+                    }
+                } else {
+                    for (Envelope envelope : drained) {
+                        try {
+                            handler.handle(envelope.message());
+                            batch.add(envelope.message());
+                        } catch (Exception e) {
+                            failed(List.of(envelope.message()), e);
+                        }
+                    }
+                    acknowledge(batch);
+                }
+                processed.add(drained.size());
+            } finally {
+                drained.clear();
+                batch.clear();
+            }
+        }
+
+        private void failed(List<InboundMessage<?>> messages, Exception e) {
+            failures.add(messages.size());
+            logger.error("Message handler " + name + " failed for " + messages.size() + " message(s)", e);
+            reject(messages, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.List;
+
+public interface MessageSource {
+
+    List<InboundMessage<?>> poll(String destination, int maxMessages, Duration timeout) throws InterruptedException;
+
+    default void acknowledge(String destination, List<InboundMessage<?>> messages) {
+    }
+
+    default void reject(String destination, List<InboundMessage<?>> messages, Exception cause) {
+    }
+}
@@ -0,0 +1,66 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+public class MessagingMetrics implements MeterBinder {
+
+    private final MessageConsumers consumers;
+
+    public MessagingMetrics(MessageConsumers consumers) {
+        this.consumers = consumers;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        consumers.onRegistration(lanes -> {
+            for (int i = 0; i < lanes.getLaneCount(); i++) {
+                int lane = i;
+                Tags tags = Tags.of("handler", lanes.getName(), "destination", lanes.getDestination(),
+                        "lane", String.valueOf(lane));
+                Gauge.builder("springonal.messaging.lane.depth", lanes, consumer -> consumer.getDepth(lane))
+                        .tags(tags)
+                        .description("Messages queued in a consumer lane")
+                        .register(registry);
+                Gauge.builder("springonal.messaging.lane.lag", lanes, consumer -> consumer.getLag(lane, TimeUnit.SECONDS))
+                        .tags(tags)
+                        .baseUnit("seconds")
+                        .description("Age of the oldest message queued in a consumer lane")
+                        .register(registry);
+                FunctionCounter.builder("springonal.messaging.lane.processed", lanes, consumer -> consumer.getProcessed(lane))
+                        .tags(tags)
+                        .description("Messages handled by a consumer lane")
+                        .register(registry);
+                FunctionCounter.builder("springonal.messaging.lane.failures", lanes, consumer -> consumer.getFailures(lane))
+                        .tags(tags)
+                        .description("Messages whose handler failed in a consumer lane")
+                        .register(registry);
+            }
+        });
+    }
+}
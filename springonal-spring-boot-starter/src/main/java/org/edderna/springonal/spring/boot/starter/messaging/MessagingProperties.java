@@ -0,0 +1,111 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = MessagingProperties.PREFIX)
+public class MessagingProperties {
+
+    public static final String PREFIX = "springonal.messaging";
+
+    private boolean enabled;
+
+    private int lanes = Runtime.getRuntime().availableProcessors();
+
+    private int queueCapacity = 256;
+
+    private int maxBatchSize = 64;
+
+    private Duration pollTimeout = Duration.ofMillis(100);
+
+    private Duration pollBackoff = Duration.ofMillis(100);
+
+    private Duration maxPollBackoff = Duration.ofSeconds(30);
+
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getLanes() {
+        return lanes;
+    }
+
+    public void setLanes(int lanes) {
+        this.lanes = lanes;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public void setPollTimeout(Duration pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public Duration getPollBackoff() {
+        return pollBackoff;
+    }
+
+    public void setPollBackoff(Duration pollBackoff) {
+        this.pollBackoff = pollBackoff;
+    }
+
+    public Duration getMaxPollBackoff() {
+        return maxPollBackoff;
+    }
+
+    public void setMaxPollBackoff(Duration maxPollBackoff) {
+        this.maxPollBackoff = maxPollBackoff;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+}
@@ -0,0 +1,72 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+public final class LatencyWindow {
+
+    private final long windowNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<Slices> slices;
+
+    public LatencyWindow(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    LatencyWindow(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = Math.max(1, window.toNanos());
+        this.nanoClock = nanoClock;
+        this.slices = new AtomicReference<>(new Slices(new LatencyHistogram(), new LatencyHistogram(), nanoClock.getAsLong()));
+    }
+
+    public void record(long nanos) {
+        rotate().current().record(nanos);
+    }
+
+    public LatencyHistogram.Snapshot snapshot() {
+        Slices current = rotate();
+        return current.previous().snapshot().merge(current.current().snapshot());
+    }
+
+    private Slices rotate() {
+        while (true) {
+            Slices current = slices.get();
+            long now = nanoClock.getAsLong();
+            long elapsed = now - current.rotatedAt();
+            if (elapsed < windowNanos) {
+                return current;
+            }
+            LatencyHistogram previous = elapsed < 2 * windowNanos ? current.current() : new LatencyHistogram();
+            Slices rotated = new Slices(previous, new LatencyHistogram(), now);
+            if (slices.compareAndSet(current, rotated)) {
+                return rotated;
+            }
+        }
+    }
+
+    private record Slices(LatencyHistogram previous, LatencyHistogram current, long rotatedAt) {
+    }
+}
@@ -0,0 +1,46 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.core.SpringonalComponentScanPostProcessor;
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Optional;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnProperty(prefix = SpringonalScanMetricsProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SpringonalScanMetricsProperties.class)
+public class SpringonalMetricsAutoConfiguration {
+
+    @Bean
+    public SpringonalScanMetrics springonalScanMetrics(ObjectProvider<SpringonalComponentScanPostProcessor> postProcessors) {
+        return new SpringonalScanMetrics(() -> Optional.ofNullable(postProcessors.getIfAvailable())
+                .flatMap(SpringonalComponentScanPostProcessor::getScanReport));
+    }
+}
@@ -0,0 +1,70 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.core.SpringonalScanReport;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public class SpringonalScanMetrics implements MeterBinder {
+
+    private final Supplier<Optional<SpringonalScanReport>> scanReport;
+
+    public SpringonalScanMetrics(Supplier<Optional<SpringonalScanReport>> scanReport) {
+        this.scanReport = scanReport;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        scanReport.get().ifPresent(report -> {
+            record(registry, Tags.of("phase", "main-class"), report.mainClassResolution());
+            record(registry, Tags.of("phase", "base-packages"), report.basePackageResolution());
+            report.packageScans().forEach(scan -> {
+                Tags tags = Tags.of("phase", "scan", "package", scan.basePackage());
+                record(registry, tags, scan.elapsed());
+                Gauge.builder("springonal.startup.scan.classes.read", scan::classesRead)
+                        .tags(tags)
+                        .description("Class files read while scanning a base package")
+                        .register(registry);
+                scan.candidatesByStereotype().forEach((stereotype, count) ->
+                        Gauge.builder("springonal.startup.scan.candidates", () -> count)
+                                .tags(tags.and("stereotype", stereotype))
+                                .description("Springonal components matched while scanning a base package")
+                                .register(registry));
+            });
+        });
+    }
+
+    private static void record(MeterRegistry registry, Tags tags, Duration duration) {
+        Timer.builder("springonal.startup.scan")
+                .tags(tags)
+                .description("Time spent by Springonal during context startup")
+                .register(registry)
+                .record(duration);
+    }
+}
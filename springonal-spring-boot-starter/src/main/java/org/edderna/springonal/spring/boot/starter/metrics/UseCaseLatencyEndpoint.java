@@ -0,0 +1,64 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+@Endpoint(id = "usecases")
+public class UseCaseLatencyEndpoint {
+
+    private final UseCaseLatencyRecorder recorder;
+
+    private final List<Double> percentiles;
+
+    public UseCaseLatencyEndpoint(UseCaseLatencyRecorder recorder, List<Double> percentiles) {
+        this.recorder = recorder;
+        this.percentiles = List.copyOf(percentiles);
+    }
+
+    @ReadOperation
+    public Map<String, UseCaseLatencyDescriptor> latencies() {
+        Map<String, UseCaseLatencyDescriptor> latencies = new TreeMap<>();
+        recorder.getLatencies().forEach(latency ->
+                latencies.put(latency.name(), describe(latency.histogram(), latency.window().snapshot())));
+        return latencies;
+    }
+
+    private UseCaseLatencyDescriptor describe(LatencyHistogram histogram, LatencyHistogram.Snapshot recent) {
+        Map<String, Duration> values = new LinkedHashMap<>();
+        percentiles.forEach(percentile ->
+                values.put(String.valueOf(percentile), Duration.ofNanos(recent.percentileNanos(percentile))));
+        long count = histogram.count();
+        long meanNanos = count == 0 ? 0 : (long) histogram.totalTime(TimeUnit.NANOSECONDS) / count;
+        return new UseCaseLatencyDescriptor(count, Duration.ofNanos(meanNanos), Duration.ofNanos(recent.maxNanos()), values);
+    }
+
+    public record UseCaseLatencyDescriptor(long count, Duration mean, Duration max, Map<String, Duration> percentiles) {
+    }
+}
@@ -0,0 +1,51 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.edderna.springonal.spring.boot.starter.warmup.WarmupContext;
+import org.springframework.aop.support.AopUtils;
+
+public class UseCaseLatencyInterceptor implements MethodInterceptor {
+
+    private final UseCaseLatencyRecorder recorder;
+
+    public UseCaseLatencyInterceptor(UseCaseLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (WarmupContext.isActive()) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Object target = invocation.getThis();
+            Class<?> useCase = target != null ? AopUtils.getTargetClass(target) : invocation.getMethod().getDeclaringClass();
+            recorder.latency(useCase, invocation.getMethod()).record(elapsed);
+        }
+    }
+}
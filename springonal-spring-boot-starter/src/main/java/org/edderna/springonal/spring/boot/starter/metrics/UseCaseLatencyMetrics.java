@@ -0,0 +1,66 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.spring.boot.starter.metrics.UseCaseLatencyRecorder.UseCaseLatency;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class UseCaseLatencyMetrics implements MeterBinder {
+
+    private final UseCaseLatencyRecorder recorder;
+
+    private final List<Double> percentiles;
+
+    public UseCaseLatencyMetrics(UseCaseLatencyRecorder recorder, List<Double> percentiles) {
+        this.recorder = recorder;
+        this.percentiles = List.copyOf(percentiles);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        recorder.onRegistration(latency -> register(registry, latency));
+    }
+
+    private void register(MeterRegistry registry, UseCaseLatency latency) {
+        LatencyHistogram histogram = latency.histogram();
+        LatencyWindow window = latency.window();
+        Tags tags = Tags.of("use-case", latency.useCase().getName(), "method", latency.method().getName());
+        FunctionTimer.builder("springonal.use-case", histogram, LatencyHistogram::count,
+                        h -> h.totalTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("Latency of Springonal use case invocations")
+                .register(registry);
+        percentiles.forEach(percentile ->
+                Gauge.builder("springonal.use-case.percentile",
+                                () -> window.snapshot().percentileNanos(percentile) / 1e9)
+                        .tags(tags.and("phi", String.valueOf(percentile)))
+                        .baseUnit("seconds")
+                        .description("Latency percentile of Springonal use case invocations")
+                        .register(registry));
+    }
+}
@@ -0,0 +1,85 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class UseCaseLatencyRecorder {
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, UseCaseLatency>> latencies = new ConcurrentHashMap<>();
+
+    private final List<Consumer<UseCaseLatency>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Duration percentileWindow;
+
+    public UseCaseLatencyRecorder(Duration percentileWindow) {
+        this.percentileWindow = percentileWindow;
+    }
+
+    public UseCaseLatency latency(Class<?> useCase, Method method) {
+        ConcurrentMap<Method, UseCaseLatency> methods = latencies.get(useCase);
+        if (methods == null) {
+            methods = latencies.computeIfAbsent(useCase, _ -> new ConcurrentHashMap<>());
+        }
+        UseCaseLatency latency = methods.get(method);
+        if (latency == null) {
+            latency = methods.computeIfAbsent(method, _ -> register(useCase, method));
+        }
+        return latency;
+    }
+
+    public List<UseCaseLatency> getLatencies() {
+        return latencies.values().stream()
+                .flatMap(methods -> methods.values().stream())
+                .toList();
+    }
+
+    public void onRegistration(Consumer<UseCaseLatency> listener) {
+        listeners.add(listener);
+        getLatencies().forEach(listener);
+    }
+
+    private UseCaseLatency register(Class<?> useCase, Method method) {
+        UseCaseLatency latency = new UseCaseLatency(useCase, method, new LatencyHistogram(),
+                new LatencyWindow(percentileWindow));
+        listeners.forEach(listener -> listener.accept(latency));
+        return latency;
+    }
+
+    public record UseCaseLatency(Class<?> useCase, Method method, LatencyHistogram histogram, LatencyWindow window) {
+
+        public void record(long nanos) {
+            histogram.record(nanos);
+            window.record(nanos);
+        }
+
+        public String name() {
+            return useCase.getName() + "#" + method.getName();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = UseCaseMetricsProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(UseCaseMetricsProperties.class)
+public class UseCaseMetricsAutoConfiguration {
+
+    @Bean
+    public static UseCaseLatencyRecorder useCaseLatencyRecorder(Environment environment) {
+        return new UseCaseLatencyRecorder(Binder.get(environment)
+                .bindOrCreate(UseCaseMetricsProperties.PREFIX, UseCaseMetricsProperties.class)
+                .getPercentileWindow());
+    }
+
+    @Bean
+    public static UseCaseLatencyPostProcessor useCaseLatencyPostProcessor(UseCaseLatencyRecorder useCaseLatencyRecorder) {
+        return new UseCaseLatencyPostProcessor(useCaseLatencyRecorder);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class UseCaseMeterConfiguration {
+
+        @Bean
+        public UseCaseLatencyMetrics useCaseLatencyMetrics(UseCaseLatencyRecorder recorder, UseCaseMetricsProperties properties) {
+            return new UseCaseLatencyMetrics(recorder, properties.getPercentiles());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class UseCaseEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        public UseCaseLatencyEndpoint useCaseLatencyEndpoint(UseCaseLatencyRecorder recorder, UseCaseMetricsProperties properties) {
+            return new UseCaseLatencyEndpoint(recorder, properties.getPercentiles());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.edderna.springonal.spring.boot.starter.singleflight;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class SingleFlightGroup {
+
+    private final Class<?> adapter;
+
+    private final Method method;
+
+    private final SingleFlightKeyExtractor keyExtractor;
+
+    private final long maxWaitNanos;
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    SingleFlightGroup(Class<?> adapter, Method method, SingleFlightKeyExtractor keyExtractor, Duration maxWait) {
+        this.adapter = adapter;
+        this.method = method;
+        this.keyExtractor = keyExtractor;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public String getName() {
+        return adapter.getName() + "#" + method.getName();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    Object execute(MethodInvocation invocation) throws Throwable {
+        Object key = keyExtractor.keyFor(method, invocation.getArguments());
+        if (key == null) {
+            executions.increment();
+            return invocation.proceed();
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader == null) {
+            return lead(invocation, key, flight);
+        }
+        coalesced.increment();
+        try {
+            return leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            executions.increment();
+            return invocation.proceed();
+        }
+    }
+
+    private Object lead(MethodInvocation invocation, Object key, CompletableFuture<Object> flight) throws Throwable {
+        executions.increment();
+        try {
+            Object result = invocation.proceed();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+}
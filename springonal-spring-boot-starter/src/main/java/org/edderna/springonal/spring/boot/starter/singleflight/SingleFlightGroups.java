@@ -0,0 +1,138 @@
+package org.edderna.springonal.spring.boot.starter.singleflight;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.interfaces.SingleFlight;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+public class SingleFlightGroups {
+
+    private static final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+
+    private final SingleFlightProperties properties;
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, SingleFlightGroup>> groups = new ConcurrentHashMap<>();
+
+    private final List<Consumer<SingleFlightGroup>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile BeanFactory beanFactory;
+
+    public SingleFlightGroups(SingleFlightProperties properties) {
+        this.properties = properties;
+    }
+
+    public SingleFlightGroup group(Class<?> adapter, Method method) {
+        ConcurrentMap<Method, SingleFlightGroup> adapterGroups = groups.get(adapter);
+        if (adapterGroups == null) {
+            adapterGroups = groups.computeIfAbsent(adapter, _ -> new ConcurrentHashMap<>());
+        }
+        SingleFlightGroup group = adapterGroups.get(method);
+        if (group == null) {
+            group = adapterGroups.computeIfAbsent(method, _ -> register(adapter, method));
+        }
+        return group;
+    }
+
+    public void onRegistration(Consumer<SingleFlightGroup> listener) {
+        listeners.add(listener);
+        groups.values().forEach(adapterGroups -> adapterGroups.values().forEach(listener));
+    }
+
+    void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    private SingleFlightGroup register(Class<?> adapter, Method method) {
+        SingleFlight singleFlight = AnnotatedElementUtils.findMergedAnnotation(method, SingleFlight.class);
+        SingleFlightKeyExtractor keyExtractor = keyExtractor(method, singleFlight);
+        Duration maxWait = singleFlight != null && singleFlight.maxWaitMillis() >= 0
+                ? Duration.ofMillis(singleFlight.maxWaitMillis())
+                : properties.getMaxWait();
+        SingleFlightGroup group = new SingleFlightGroup(adapter, method, keyExtractor, maxWait);
+        listeners.forEach(listener -> listener.accept(group));
+        return group;
+    }
+
+    private SingleFlightKeyExtractor keyExtractor(Method method, SingleFlight singleFlight) {
+        if (singleFlight != null && !singleFlight.keyExtractor().isEmpty()) {
+            if (beanFactory == null) {
+                throw new IllegalStateException("Cannot resolve key extractor " + singleFlight.keyExtractor()
+                        + " of " + method + " without a bean factory");
+            }
+            return beanFactory.getBean(singleFlight.keyExtractor(), SingleFlightKeyExtractor.class);
+        }
+        int[] indexes = keyIndexes(method, singleFlight == null ? new String[0] : singleFlight.keyParameters());
+        return (keyMethod, arguments) -> {
+            Object[] selected = new Object[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                selected[i] = arguments[indexes[i]];
+            }
+            return new Key(keyMethod, selected);
+        };
+    }
+
+    private static int[] keyIndexes(Method method, String[] keyParameters) {
+        if (keyParameters.length == 0) {
+            return IntStream.range(0, method.getParameterCount()).toArray();
+        }
+        String[] names = parameterNames.getParameterNames(method);
+        if (names == null) {
+            throw new IllegalStateException("Parameter names of " + method
+                    + " are not available, compile with -parameters to use keyParameters");
+        }
+        List<String> declared = Arrays.asList(names);
+        return Arrays.stream(keyParameters)
+                .mapToInt(name -> {
+                    int index = declared.indexOf(name);
+                    if (index < 0) {
+                        throw new IllegalStateException("Unknown key parameter " + name + " on " + method);
+                    }
+                    return index;
+                })
+                .toArray();
+    }
+
+    private record Key(Method method, Object[] arguments) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && method.equals(key.method) && Arrays.deepEquals(arguments, key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * method.hashCode() + Arrays.deepHashCode(arguments);
+        }
+    }
+}
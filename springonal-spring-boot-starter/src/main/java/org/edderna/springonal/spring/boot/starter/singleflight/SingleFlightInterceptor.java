@@ -0,0 +1,41 @@
+package org.edderna.springonal.spring.boot.starter.singleflight;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    private final SingleFlightGroups groups;
+
+    public SingleFlightInterceptor(SingleFlightGroups groups) {
+        this.groups = groups;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> adapter = AopUtils.getTargetClass(invocation.getThis());
+        return groups.group(adapter, AopUtils.getMostSpecificMethod(invocation.getMethod(), adapter))
+                .execute(invocation);
+    }
+}
@@ -0,0 +1,59 @@
+package org.edderna.springonal.spring.boot.starter.singleflight;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class SingleFlightMetrics implements MeterBinder {
+
+    private final SingleFlightGroups groups;
+
+    public SingleFlightMetrics(SingleFlightGroups groups) {
+        this.groups = groups;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        groups.onRegistration(group -> {
+            Tags tags = Tags.of("method", group.getName());
+            Gauge.builder("springonal.single-flight.in-flight", group, SingleFlightGroup::getInFlight)
+                    .tags(tags)
+                    .description("Distinct keys currently executing on a single-flight endpoint")
+                    .register(registry);
+            FunctionCounter.builder("springonal.single-flight.executions", group, SingleFlightGroup::getExecutions)
+                    .tags(tags)
+                    .description("Executions that actually ran on a single-flight endpoint")
+                    .register(registry);
+            FunctionCounter.builder("springonal.single-flight.coalesced", group, SingleFlightGroup::getCoalesced)
+                    .tags(tags)
+                    .description("Calls that joined an in-flight execution on a single-flight endpoint")
+                    .register(registry);
+            FunctionCounter.builder("springonal.single-flight.timeouts", group, SingleFlightGroup::getTimeouts)
+                    .tags(tags)
+                    .description("Joined calls that gave up waiting and ran on their own")
+                    .register(registry);
+        });
+    }
+}
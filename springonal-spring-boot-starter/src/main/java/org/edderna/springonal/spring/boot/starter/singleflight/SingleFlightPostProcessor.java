@@ -0,0 +1,45 @@
+package org.edderna.springonal.spring.boot.starter.singleflight;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.interfaces.IndoundRestAdapter;
+import org.edderna.springonal.annotations.interfaces.SingleFlight;
+import org.edderna.springonal.spring.boot.starter.SpringonalAdvisingPostProcessor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.BeanFactory;
+
+public class SingleFlightPostProcessor extends SpringonalAdvisingPostProcessor {
+
+    private final SingleFlightGroups groups;
+
+    public SingleFlightPostProcessor(SingleFlightGroups groups) {
+        super(SINGLE_FLIGHT_ORDER);
+        this.groups = groups;
+        advise(new AnnotationMatchingPointcut(IndoundRestAdapter.class, SingleFlight.class, true),
+                new SingleFlightInterceptor(groups));
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        super.setBeanFactory(beanFactory);
+        groups.setBeanFactory(beanFactory);
+    }
+}
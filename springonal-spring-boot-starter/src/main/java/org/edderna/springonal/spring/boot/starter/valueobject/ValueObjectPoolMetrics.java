@@ -0,0 +1,68 @@
+package org.edderna.springonal.spring.boot.starter.valueobject;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.core.ValueObjectPool;
+import org.edderna.springonal.core.ValueObjects;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class ValueObjectPoolMetrics implements MeterBinder, DisposableBean {
+
+    private final List<ValueObjects.Registration> registrations = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registrations.add(ValueObjects.onPoolCreated(pool -> {
+            Tags tags = Tags.of("type", pool.getType().getName());
+            Gauge.builder("springonal.value-object.pool.size", () -> pool.getStatistics().size())
+                    .tags(tags)
+                    .description("Canonical value object instances currently pooled")
+                    .register(registry);
+            FunctionCounter.builder("springonal.value-object.pool.requests", pool, p -> p.getStatistics().hits())
+                    .tags(tags.and("result", "hit"))
+                    .description("Value objects replaced by their canonical instance")
+                    .register(registry);
+            FunctionCounter.builder("springonal.value-object.pool.requests", pool, p -> p.getStatistics().misses())
+                    .tags(tags.and("result", "miss"))
+                    .description("Value objects that became the canonical instance")
+                    .register(registry);
+            Gauge.builder("springonal.value-object.pool.saved", () -> pool.getStatistics().estimatedBytesSaved())
+                    .tags(tags)
+                    .baseUnit("bytes")
+                    .description("Estimated shallow heap saved by interning value objects")
+                    .register(registry);
+        }));
+    }
+
+    @Override
+    public void destroy() {
+        registrations.forEach(ValueObjects.Registration::close);
+        registrations.clear();
+    }
+}
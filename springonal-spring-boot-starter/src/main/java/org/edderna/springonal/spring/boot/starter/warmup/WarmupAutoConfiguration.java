@@ -0,0 +1,59 @@
+package org.edderna.springonal.spring.boot.starter.warmup;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.edderna.springonal.spring.boot.starter.SpringonalAnnotationAutoConfiguration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@AutoConfiguration(after = SpringonalAnnotationAutoConfiguration.class)
+@ConditionalOnProperty(prefix = WarmupProperties.PREFIX, name = "enabled", havingValue = "true")
+public class WarmupAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = WarmupProperties.PREFIX, name = "stub-outbound-adapters", havingValue = "true")
+    public static WarmupStubPostProcessor warmupStubPostProcessor(ObjectProvider<WarmupStub> stub) {
+        return new WarmupStubPostProcessor((adapter, method, arguments) ->
+                stub.getIfAvailable(WarmupStub::emptyValues).stub(adapter, method, arguments));
+    }
+
+    @Bean
+    public WarmupRunner warmupRunner(Environment environment) {
+        return new WarmupRunner(Binder.get(environment).bindOrCreate(WarmupProperties.PREFIX, WarmupProperties.class));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class WarmupMeterConfiguration {
+
+        @Bean
+        public WarmupMetrics warmupMetrics(WarmupRunner warmupRunner) {
+            return new WarmupMetrics(warmupRunner);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.edderna.springonal.spring.boot.starter.warmup;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class WarmupMetrics implements MeterBinder {
+
+    private final WarmupRunner runner;
+
+    public WarmupMetrics(WarmupRunner runner) {
+        this.runner = runner;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("springonal.startup.warmup", runner, TimeUnit.MILLISECONDS,
+                        r -> duration(r, WarmupReport::elapsed))
+                .description("Time spent running warmup scenarios before accepting traffic")
+                .register(registry);
+        TimeGauge.builder("springonal.startup.warmup.compilation", runner, TimeUnit.MILLISECONDS,
+                        r -> duration(r, WarmupReport::compilationTime))
+                .description("JIT compilation time accumulated while running warmup scenarios")
+                .register(registry);
+        Gauge.builder("springonal.startup.warmup.invocations", runner,
+                        r -> r.getReport().map(WarmupReport::invocations).orElse(0L))
+                .description("Warmup scenario invocations")
+                .register(registry);
+        Gauge.builder("springonal.startup.warmup.failures", runner,
+                        r -> r.getReport().map(WarmupReport::failures).orElse(0L))
+                .description("Warmup scenario invocations that threw")
+                .register(registry);
+    }
+
+    private static double duration(WarmupRunner runner, Function<WarmupReport, Duration> duration) {
+        return runner.getReport().map(duration).map(Duration::toMillis).orElse(0L);
+    }
+}
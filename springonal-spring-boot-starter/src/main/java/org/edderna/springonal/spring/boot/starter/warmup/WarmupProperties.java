@@ -0,0 +1,81 @@
+package org.edderna.springonal.spring.boot.starter.warmup;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = WarmupProperties.PREFIX)
+public class WarmupProperties {
+
+    public static final String PREFIX = "springonal.warmup";
+
+    private boolean enabled;
+
+    private int iterations = 10_000;
+
+    private int threads = 2;
+
+    private Duration timeout = Duration.ofSeconds(60);
+
+    private boolean stubOutboundAdapters;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public boolean isStubOutboundAdapters() {
+        return stubOutboundAdapters;
+    }
+
+    public void setStubOutboundAdapters(boolean stubOutboundAdapters) {
+        this.stubOutboundAdapters = stubOutboundAdapters;
+    }
+}
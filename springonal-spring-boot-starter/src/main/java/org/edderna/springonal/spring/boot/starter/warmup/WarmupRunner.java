@@ -0,0 +1,194 @@
+package org.edderna.springonal.spring.boot.starter.warmup;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.application.WarmupScenario;
+import org.edderna.springonal.annotations.interfaces.InboundAdapter;
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WarmupRunner implements ApplicationRunner, BeanFactoryAware, Ordered {
+
+    private static final Log logger = LogFactory.getLog(WarmupRunner.class);
+
+    private final WarmupProperties properties;
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    private volatile WarmupReport report;
+
+    public WarmupRunner(WarmupProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    public Optional<WarmupReport> getReport() {
+        return Optional.ofNullable(report);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        List<Scenario> scenarios = scenarios();
+        if (scenarios.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeout().toNanos();
+        long compilationStart = compilationTimeMillis();
+        AtomicLong invocations = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        boolean timedOut = false;
+        for (Scenario scenario : scenarios) {
+            timedOut |= !scenario.run(deadline, invocations, failures);
+            if (timedOut) {
+                break;
+            }
+        }
+        report = new WarmupReport(
+                Duration.ofNanos(System.nanoTime() - start),
+                scenarios.size(),
+                invocations.get(),
+                failures.get(),
+                Duration.ofMillis(compilationTimeMillis() - compilationStart),
+                timedOut);
+        if (logger.isInfoEnabled()) {
+            logger.info("Warmed up " + report.scenarios() + " scenarios with " + report.invocations() + " invocations ("
+                    + report.failures() + " failed) in " + report.elapsed().toMillis() + " ms, JIT compiled for "
+                    + report.compilationTime().toMillis() + " ms" + (timedOut ? ", stopped at timeout" : ""));
+        }
+    }
+
+    private List<Scenario> scenarios() {
+        Set<String> beanNames = new LinkedHashSet<>();
+        beanNames.addAll(List.of(beanFactory.getBeanNamesForAnnotation(UseCase.class)));
+        beanNames.addAll(List.of(beanFactory.getBeanNamesForAnnotation(InboundAdapter.class)));
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String beanName : beanNames) {
+            if (ScopedProxyUtils.isScopedTarget(beanName)) {
+                continue;
+            }
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type == null) {
+                continue;
+            }
+            Map<Method, WarmupScenario> methods = MethodIntrospector.selectMethods(ClassUtils.getUserClass(type),
+                    (MethodIntrospector.MetadataLookup<WarmupScenario>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, WarmupScenario.class));
+            if (methods.isEmpty()) {
+                continue;
+            }
+            Object bean = beanFactory.getBean(beanName);
+            methods.forEach((method, annotation) -> {
+                if (method.getParameterCount() != 0) {
+                    throw new IllegalStateException("@WarmupScenario method " + method + " must not declare parameters");
+                }
+                Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+                ReflectionUtils.makeAccessible(invocable);
+                scenarios.add(new Scenario(beanName + "#" + method.getName(), bean, invocable,
+                        annotation.iterations() > 0 ? annotation.iterations() : properties.getIterations(),
+                        annotation.threads() > 0 ? annotation.threads() : properties.getThreads()));
+            });
+        }
+        return scenarios;
+    }
+
+    private static long compilationTimeMillis() {
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        return compilation != null && compilation.isCompilationTimeMonitoringSupported()
+                ? compilation.getTotalCompilationTime()
+                : 0;
+    }
+
+    private record Scenario(String name, Object bean, Method method, int iterations, int threads) {
+
+        boolean run(long deadline, AtomicLong invocations, AtomicLong failures) throws InterruptedException {
+            AtomicLong remaining = new AtomicLong(iterations);
+            List<Thread> workers = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                workers.add(Thread.ofPlatform()
+                        .name("springonal-warmup-" + i)
+                        .daemon(true)
+                        .start(() -> work(deadline, remaining, invocations, failures)));
+            }
+            for (Thread worker : workers) {
+                long wait = deadline - System.nanoTime();
+                if (wait <= 0 || !worker.join(Duration.ofNanos(wait))) {
+                    remaining.set(0);
+                    return false;
+                }
+            }
+            return System.nanoTime() < deadline;
+        }
+
+        private void work(long deadline, AtomicLong remaining, AtomicLong invocations, AtomicLong failures) {
+            while (remaining.getAndDecrement() > 0 && System.nanoTime() < deadline) {
+                invocations.incrementAndGet();
+                WarmupContext.activate();
+                try {
+                    method.invoke(bean);
+                } catch (InvocationTargetException | IllegalAccessException e) {
+                    if (failures.getAndIncrement() == 0 && logger.isDebugEnabled()) {
+                        logger.debug("Warmup scenario " + name + " failed",
+                                e instanceof InvocationTargetException ite ? ite.getTargetException() : e);
+                    }
+                } finally {
+                    WarmupContext.deactivate();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package org.edderna.springonal.spring.boot.starter.aggregate;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.domain.AggregateId;
+import org.edderna.springonal.annotations.domain.AggregateRoot;
+import org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AggregateCacheAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AggregateCacheAutoConfiguration.class))
+            .withUserConfiguration(AdapterConfiguration.class);
+
+    @Test
+    void shouldNotCacheAggregatesByDefault() {
+        contextRunner.run(context ->
+                assertThat(AopUtils.isAopProxy(context.getBean(AccountRepository.class))).isFalse());
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        contextRunner.withPropertyValues("springonal.aggregate-cache.enabled=true").run(context -> {
+            // Given
+            AccountRepository repository = context.getBean(AccountRepository.class);
+            repository.save(new Account("a-1", 100));
+
+            // When
+            Optional<Account> first = repository.findById("a-1");
+            Optional<Account> second = repository.findById("a-1");
+
+            // Then
+            assertThat(first).containsSame(second.orElseThrow());
+            assertThat(repository.reads()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldInvalidateOnWrite() {
+        contextRunner.withPropertyValues("springonal.aggregate-cache.enabled=true").run(context -> {
+            // Given
+            AccountRepository repository = context.getBean(AccountRepository.class);
+            repository.save(new Account("a-1", 100));
+            repository.findById("a-1");
+
+            // When
+            repository.save(new Account("a-1", 250));
+            Optional<Account> reloaded = repository.findById("a-1");
+            repository.deleteById("a-1");
+
+            // Then
+            assertThat(reloaded).map(Account::balance).contains(250L);
+            assertThat(repository.findById("a-1")).isEmpty();
+            assertThat(repository.reads()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldTreatMethodsTakingTheAggregateAsWrites() {
+        contextRunner.withPropertyValues("springonal.aggregate-cache.enabled=true").run(context -> {
+            // Given
+            AccountRepository repository = context.getBean(AccountRepository.class);
+            repository.save(new Account("a-1", 100));
+            repository.findById("a-1");
+
+            // When
+            Account updated = repository.update(new Account("a-1", 300));
+
+            // Then
+            assertThat(updated.balance()).isEqualTo(300);
+            assertThat(repository.findById("a-1")).map(Account::balance).contains(300L);
+            assertThat(repository.reads()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldNotServeOtherSingleArgumentReadsFromCache() {
+        contextRunner.withPropertyValues("springonal.aggregate-cache.enabled=true").run(context -> {
+            // Given
+            AccountRepository repository = context.getBean(AccountRepository.class);
+            repository.save(new Account("a-1", 100));
+            repository.save(new Account("a-2", 200));
+            repository.alias("a-1", "a-2");
+            repository.findById("a-1");
+
+            // When
+            Optional<Account> aliased = repository.findByAlias("a-1");
+            boolean exists = repository.existsById("a-1");
+            Optional<Account> cached = repository.findById("a-1");
+
+            // Then
+            assertThat(aliased).map(Account::number).contains("a-2");
+            assertThat(exists).isTrue();
+            assertThat(cached).map(Account::balance).contains(100L);
+            assertThat(repository.reads()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldInvalidateMethodsWithAggregateIdParameter() {
+        contextRunner.withPropertyValues("springonal.aggregate-cache.enabled=true").run(context -> {
+            // Given
+            AccountRepository repository = context.getBean(AccountRepository.class);
+            repository.save(new Account("a-1", 100));
+            repository.findById("a-1");
+
+            // When
+            repository.credit("a-1", 50);
+
+            // Then
+            assertThat(repository.findById("a-1")).map(Account::balance).contains(150L);
+            assertThat(repository.reads()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldInvalidateWritesAgainAfterTransactionCompletes() {
+        contextRunner.withPropertyValues("springonal.aggregate-cache.enabled=true").run(context -> {
+            // Given
+            AccountRepository repository = context.getBean(AccountRepository.class);
+            TransactionTemplate transaction = new TransactionTemplate(new NoOpTransactionManager());
+            repository.save(new Account("a-1", 100));
+            repository.findById("a-1");
+
+            // When
+            transaction.executeWithoutResult(status -> {
+                repository.save(new Account("a-1", 250));
+                Thread concurrentReader = Thread.ofVirtual().start(() -> repository.findById("a-1"));
+                try {
+                    concurrentReader.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                repository.findById("a-1");
+                repository.findById("a-1");
+            });
+            repository.findById("a-1");
+            repository.findById("a-1");
+
+            // Then
+            assertThat(repository.reads()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    void shouldNotCacheMutableAggregates() {
+        contextRunner.withPropertyValues("springonal.aggregate-cache.enabled=true").run(context -> {
+            // Given
+            AccountRepository repository = context.getBean(AccountRepository.class);
+
+            // When
+            Customer first = repository.getById(42L);
+            Customer second = repository.getById(42L);
+
+            // Then
+            assertThat(first).isNotSameAs(second);
+            assertThat(repository.reads()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldSerializeWritersToSameAggregateOnly() {
+        contextRunner.withPropertyValues("springonal.aggregate-cache.enabled=true").run(context -> {
+            // Given
+            AccountRepository repository = context.getBean(AccountRepository.class);
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread slowWriter = Thread.ofVirtual().start(() -> repository.slowSave(new Account("a-1", 1), entered, release));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            Thread sameAggregate = Thread.ofVirtual().start(() -> repository.save(new Account("a-1", 2)));
+            String otherId = otherStripeId(context.getBean(AggregateCache.class));
+            Thread otherAggregate = Thread.ofVirtual().start(() -> repository.save(new Account(otherId, 3)));
+
+            // Then
+            assertThat(otherAggregate.join(Duration.ofSeconds(5))).isTrue();
+            assertThat(sameAggregate.join(Duration.ofMillis(100))).isFalse();
+            release.countDown();
+            slowWriter.join();
+            sameAggregate.join();
+            assertThat(repository.findById("a-1")).map(Account::balance).contains(2L);
+        });
+    }
+
+    @Test
+    void shouldResolveIdsFromConventionalAccessors() {
+        assertThat(AggregateIds.idOf(new Account("a-9", 0))).contains("a-9");
+        assertThat(AggregateIds.idOf(new Customer(42L))).contains(42L);
+    }
+
+    private static String otherStripeId(AggregateCache cache) {
+        StripedLocks locks = cache.getLocks();
+        int stripe = locks.indexFor("a-1");
+        for (int i = 2; ; i++) {
+            String id = "a-" + i;
+            if (locks.indexFor(id) != stripe) {
+                return id;
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class AdapterConfiguration {
+
+        @Bean
+        AccountRepository accountRepository() {
+            return new AccountRepository();
+        }
+    }
+
+    @AggregateRoot
+    record Account(@AggregateId String number, long balance) {
+    }
+
+    @AggregateRoot
+    static class Customer {
+
+        private final Long id;
+
+        Customer(Long id) {
+            this.id = id;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+
+    @OutboundDatabaseAdapter
+    static class AccountRepository {
+
+        private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+
+        private final Map<String, String> aliases = new ConcurrentHashMap<>();
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        public Optional<Account> findById(String number) {
+            reads.incrementAndGet();
+            return Optional.ofNullable(accounts.get(number));
+        }
+
+        public Customer getById(Long id) {
+            reads.incrementAndGet();
+            return new Customer(id);
+        }
+
+        public Optional<Account> findByAlias(String alias) {
+            reads.incrementAndGet();
+            return Optional.ofNullable(aliases.get(alias)).map(accounts::get);
+        }
+
+        public boolean existsById(String number) {
+            reads.incrementAndGet();
+            return accounts.containsKey(number);
+        }
+
+        public void alias(String alias, String number) {
+            aliases.put(alias, number);
+        }
+
+        public void credit(@AggregateId String number, long amount) {
+            accounts.computeIfPresent(number, (_, account) -> new Account(number, account.balance() + amount));
+        }
+
+        public void save(Account account) {
+            accounts.put(account.number(), account);
+        }
+
+        public Account update(Account account) {
+            accounts.put(account.number(), account);
+            return account;
+        }
+
+        public void slowSave(Account account, CountDownLatch entered, CountDownLatch release) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            accounts.put(account.number(), account);
+        }
+
+        public void deleteById(String number) {
+            accounts.remove(number);
+        }
+
+        int reads() {
+            return reads.get();
+        }
+    }
+
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package org.edderna.springonal.spring.boot.starter.batching;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.infrastructure.Batched;
+import org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingAutoConfigurationTest {
+
+    private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(BatchingAutoConfiguration.class))
+            .withUserConfiguration(AdapterConfiguration.class)
+            .withPropertyValues(BatchingProperties.PREFIX + ".enabled=true");
+
+    @Test
+    void shouldGatherFutureCallsWithinWindowIntoOneBatch() {
+        contextRunner.withPropertyValues("springonal.batching.window=50ms").run(context -> {
+            // Given
+            CustomerRepository repository = context.getBean(CustomerRepository.class);
+
+            // When
+            List<CompletableFuture<String>> customers = IntStream.range(0, 5)
+                    .mapToObj(id -> repository.findById((long) id))
+                    .toList();
+
+            // Then
+            assertThat(customers.stream().map(CompletableFuture::join))
+                    .containsExactly("customer-0", "customer-1", "customer-2", "customer-3", "customer-4");
+            assertThat(repository.batches()).containsExactly(List.of(0L, 1L, 2L, 3L, 4L));
+        });
+    }
+
+    @Test
+    void shouldGatherConcurrentBlockingCallersIntoOneBatch() {
+        contextRunner.withPropertyValues("springonal.batching.window=200ms").run(context -> {
+            // Given
+            CustomerRepository repository = context.getBean(CustomerRepository.class);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            // When
+            List<Future<String>> names;
+            try {
+                names = IntStream.range(0, 4)
+                        .mapToObj(id -> executor.submit(() -> repository.nameOf((long) id)))
+                        .toList();
+                for (Future<String> name : names) {
+                    name.get(5, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then
+            assertThat(repository.batches()).hasSize(1);
+            assertThat(names.getFirst().get()).isEqualTo("customer-0");
+        });
+    }
+
+    @Test
+    void shouldDispatchAsSoonAsMaxBatchSizeIsReached() {
+        contextRunner.withPropertyValues("springonal.batching.window=10s", "springonal.batching.max-batch-size=3")
+                .run(context -> {
+                    // Given
+                    CustomerRepository repository = context.getBean(CustomerRepository.class);
+
+                    // When
+                    List<CompletableFuture<String>> customers = IntStream.range(0, 3)
+                            .mapToObj(id -> repository.findById((long) id))
+                            .toList();
+
+                    // Then
+                    assertThat(CompletableFuture.allOf(customers.toArray(CompletableFuture[]::new)))
+                            .succeedsWithin(1, TimeUnit.SECONDS);
+                    assertThat(repository.batches()).containsExactly(List.of(0L, 1L, 2L));
+                });
+    }
+
+    @Test
+    void shouldRestartWindowAfterFullBatchIsDispatched() {
+        contextRunner.withPropertyValues("springonal.batching.window=400ms", "springonal.batching.max-batch-size=2")
+                .run(context -> {
+                    // Given
+                    CustomerRepository repository = context.getBean(CustomerRepository.class);
+                    repository.findById(0L);
+                    repository.findById(1L);
+                    Thread.sleep(200);
+
+                    // When
+                    CompletableFuture<String> third = repository.findById(2L);
+                    Thread.sleep(300);
+                    CompletableFuture<String> fourth = repository.findById(3L);
+
+                    // Then
+                    assertThat(CompletableFuture.allOf(third, fourth)).succeedsWithin(1, TimeUnit.SECONDS);
+                    assertThat(repository.batches()).containsExactly(List.of(0L, 1L), List.of(2L, 3L));
+                });
+    }
+
+    @Test
+    void shouldPropagateCallerContextToBatches() {
+        contextRunner.withPropertyValues("springonal.batching.window=10ms")
+                .withBean(TaskDecorator.class, () -> runnable -> {
+                    String tenant = TENANT.get();
+                    return () -> {
+                        TENANT.set(tenant);
+                        try {
+                            runnable.run();
+                        } finally {
+                            TENANT.remove();
+                        }
+                    };
+                })
+                .run(context -> {
+                    // Given
+                    CustomerRepository repository = context.getBean(CustomerRepository.class);
+                    TENANT.set("acme");
+
+                    // When
+                    try {
+                        repository.nameOf(1L);
+                    } finally {
+                        TENANT.remove();
+                    }
+
+                    // Then
+                    assertThat(repository.tenants()).containsExactly("acme");
+                });
+    }
+
+    @Test
+    void shouldDeduplicateKeysAndRouteListResults() {
+        contextRunner.withPropertyValues("springonal.batching.window=50ms").run(context -> {
+            // Given
+            CustomerRepository repository = context.getBean(CustomerRepository.class);
+
+            // When
+            CompletableFuture<Integer> first = repository.scoreOf(7L);
+            CompletableFuture<Integer> second = repository.scoreOf(7L);
+            CompletableFuture<Integer> third = repository.scoreOf(8L);
+
+            // Then
+            assertThat(first.join()).isEqualTo(70);
+            assertThat(second.join()).isEqualTo(70);
+            assertThat(third.join()).isEqualTo(80);
+            assertThat(repository.batches()).containsExactly(List.of(7L, 8L));
+        });
+    }
+
+    @Test
+    void shouldPropagateBatchFailuresToEveryCaller() {
+        contextRunner.withPropertyValues("springonal.batching.window=1ms").run(context -> {
+            // Given
+            CustomerRepository repository = context.getBean(CustomerRepository.class);
+
+            // When / Then
+            assertThatThrownBy(() -> repository.nameOf(-1L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Negative id");
+        });
+    }
+
+    @Test
+    void shouldRejectNullKeys() {
+        contextRunner.run(context -> {
+            // Given
+            CustomerRepository repository = context.getBean(CustomerRepository.class);
+
+            // When / Then
+            assertThatThrownBy(() -> repository.nameOf(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Batched keys must not be null");
+            assertThat(repository.batches()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldStopWaitingForBatchAfterMaxWait() {
+        contextRunner.withPropertyValues("springonal.batching.window=10s", "springonal.batching.max-wait=50ms")
+                .run(context -> {
+                    // Given
+                    CustomerRepository repository = context.getBean(CustomerRepository.class);
+
+                    // When / Then
+                    assertThatThrownBy(() -> repository.nameOf(1L))
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessageContaining("did not complete within PT0.05S");
+                });
+    }
+
+    @Test
+    void shouldNotProxyAdaptersUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(BatchingAutoConfiguration.class))
+                .withUserConfiguration(AdapterConfiguration.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(BatchingPostProcessor.class);
+                    assertThat(AopUtils.isAopProxy(context.getBean(CustomerRepository.class))).isFalse();
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class AdapterConfiguration {
+
+        @Bean
+        CustomerRepository customerRepository() {
+            return new CustomerRepository();
+        }
+    }
+
+    @OutboundDatabaseAdapter
+    static class CustomerRepository {
+
+        private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+
+        private final List<String> tenants = new CopyOnWriteArrayList<>();
+
+        @Batched(batchMethod = "findAllById")
+        public CompletableFuture<String> findById(Long id) {
+            throw new UnsupportedOperationException("Replaced by findAllById");
+        }
+
+        @Batched(batchMethod = "findAllById")
+        public String nameOf(Long id) {
+            throw new UnsupportedOperationException("Replaced by findAllById");
+        }
+
+        @Batched(batchMethod = "scoresOf")
+        public CompletableFuture<Integer> scoreOf(Long id) {
+            throw new UnsupportedOperationException("Replaced by scoresOf");
+        }
+
+        public Map<Long, String> findAllById(List<Long> ids) {
+            batches.add(ids);
+            tenants.add(String.valueOf(TENANT.get()));
+            if (ids.stream().anyMatch(id -> id < 0)) {
+                throw new IllegalArgumentException("Negative id");
+            }
+            return ids.stream().collect(Collectors.toMap(Function.identity(), id -> "customer-" + id));
+        }
+
+        public List<Integer> scoresOf(List<Long> ids) {
+            batches.add(ids);
+            return ids.stream().map(id -> (int) (id * 10)).toList();
+        }
+
+        List<List<Long>> batches() {
+            return batches;
+        }
+
+        List<String> tenants() {
+            return tenants;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package org.edderna.springonal.spring.boot.starter.cache;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.edderna.springonal.annotations.infrastructure.OutboundApiAdapter;
+import org.edderna.springonal.spring.boot.starter.isolation.ExecutorIsolationAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdapterCacheAutoConfigurationTest {
+
+    private static final String ADAPTER = "springonal.cache.adapters[" + ExchangeRateApi.class.getName() + "]";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AdapterCacheAutoConfiguration.class))
+            .withUserConfiguration(AdapterConfiguration.class);
+
+    @Test
+    void shouldNotCacheAdaptersByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(AdapterCachePostProcessor.class);
+            assertThat(AopUtils.isAopProxy(context.getBean(ExchangeRateApi.class))).isFalse();
+        });
+    }
+
+    @Test
+    void shouldNotCacheAdaptersWithoutConfiguration() {
+        contextRunner.withPropertyValues("springonal.cache.enabled=true").run(context ->
+                assertThat(AopUtils.isAopProxy(context.getBean(ExchangeRateApi.class))).isFalse());
+    }
+
+    @Test
+    void shouldCacheResultsPerArguments() {
+        contextRunner.withPropertyValues("springonal.cache.enabled=true", ADAPTER + ".maximum-size=100").run(context -> {
+            // Given
+            ExchangeRateApi api = context.getBean(ExchangeRateApi.class);
+
+            // When
+            api.rate("EUR", "USD");
+            api.rate("EUR", "USD");
+            api.rate("EUR", "GBP");
+
+            // Then
+            assertThat(api.calls()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldOnlyCacheConfiguredMethods() {
+        contextRunner.withPropertyValues("springonal.cache.enabled=true", ADAPTER + ".methods.rate.expire-after-write=1m")
+                .run(context -> {
+                    // Given
+                    ExchangeRateApi api = context.getBean(ExchangeRateApi.class);
+
+                    // When
+                    api.rate("EUR", "USD");
+                    api.rate("EUR", "USD");
+                    api.currencies();
+                    api.currencies();
+
+                    // Then
+                    assertThat(api.calls()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentMisses() {
+        contextRunner.withPropertyValues("springonal.cache.enabled=true", ADAPTER + ".enabled=true").run(context -> {
+            // Given
+            ExchangeRateApi api = context.getBean(ExchangeRateApi.class);
+            api.slowDown();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            Callable<Double> call = () -> api.rate("EUR", "JPY");
+
+            // When
+            List<Future<Double>> results = new ArrayList<>();
+            try {
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(call));
+                }
+                Thread.sleep(100);
+                api.release();
+                for (Future<Double> result : results) {
+                    result.get(5, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // Then
+            assertThat(api.calls()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        contextRunner.withPropertyValues("springonal.cache.enabled=true", ADAPTER + ".enabled=true").run(context -> {
+            // Given
+            ExchangeRateApi api = context.getBean(ExchangeRateApi.class);
+
+            // When / Then
+            assertThatThrownBy(() -> api.rate("XXX", "USD")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> api.rate("XXX", "USD")).isInstanceOf(IllegalArgumentException.class);
+            assertThat(api.calls()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldLoadMissesThroughInnerAdvisors() {
+        contextRunner.withConfiguration(AutoConfigurations.of(ExecutorIsolationAutoConfiguration.class))
+                .withPropertyValues("springonal.cache.enabled=true", ADAPTER + ".enabled=true",
+                        "springonal.isolation.enabled=true")
+                .run(context -> {
+                    // Given
+                    ExchangeRateApi api = context.getBean(ExchangeRateApi.class);
+
+                    // When
+                    api.rate("EUR", "USD");
+                    api.rate("EUR", "USD");
+
+                    // Then
+                    assertThat(api.calls()).isEqualTo(1);
+                    assertThat(api.lastThread().isVirtual()).isTrue();
+                });
+    }
+
+    @Test
+    void shouldRefreshThroughInnerAdvisors() {
+        contextRunner.withConfiguration(AutoConfigurations.of(ExecutorIsolationAutoConfiguration.class))
+                .withPropertyValues("springonal.cache.enabled=true", ADAPTER + ".refresh-after-write=10ms",
+                        "springonal.isolation.enabled=true")
+                .run(context -> {
+                    // Given
+                    ExchangeRateApi api = context.getBean(ExchangeRateApi.class);
+                    api.rate("EUR", "USD");
+                    Thread.sleep(50);
+
+                    // When
+                    api.rate("EUR", "USD");
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                    while (api.calls() < 2 && System.nanoTime() < deadline) {
+                        Thread.sleep(10);
+                    }
+
+                    // Then
+                    assertThat(api.calls()).isEqualTo(2);
+                    assertThat(api.lastThread().isVirtual()).isTrue();
+                });
+    }
+
+    @Test
+    void shouldExposeCacheMetricsPerAdapter() {
+        contextRunner.withPropertyValues("springonal.cache.enabled=true", ADAPTER + ".enabled=true").run(context -> {
+            // Given
+            ExchangeRateApi api = context.getBean(ExchangeRateApi.class);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean(AdapterCacheMetrics.class).bindTo(registry);
+
+            // When
+            api.rate("EUR", "USD");
+            api.rate("EUR", "USD");
+
+            // Then
+            assertThat(registry.get("cache.gets")
+                    .tags("adapter", ExchangeRateApi.class.getName(), "method", "rate", "result", "hit")
+                    .functionCounter()
+                    .count()).isEqualTo(1);
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class AdapterConfiguration {
+
+        @Bean
+        ExchangeRateApi exchangeRateApi() {
+            return new ExchangeRateApi();
+        }
+    }
+
+    @OutboundApiAdapter
+    static class ExchangeRateApi {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private final AtomicReference<Thread> lastThread = new AtomicReference<>();
+
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        public double rate(String from, String to) throws InterruptedException {
+            lastThread.set(Thread.currentThread());
+            calls.incrementAndGet();
+            gate.await(5, TimeUnit.SECONDS);
+            if (from.equals("XXX")) {
+                throw new IllegalArgumentException("Unknown currency " + from);
+            }
+            return from.length() + to.length() / 10.0;
+        }
+
+        public List<String> currencies() {
+            calls.incrementAndGet();
+            return List.of("EUR", "USD");
+        }
+
+        Thread lastThread() {
+            return lastThread.get();
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        void slowDown() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.edderna.springonal.spring.boot.starter.cds;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CdsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CdsAutoConfiguration.class))
+            .withUserConfiguration(ComponentConfiguration.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldNotTrainOrVerifyByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(CdsTrainingListener.class);
+            assertThat(context).doesNotHaveBean(CdsArchiveVerifier.class);
+        });
+    }
+
+    @Test
+    void shouldSkipVerificationWithoutArchive() {
+        contextRunner.withPropertyValues("springonal.cds.verify-classpath=true")
+                .run(context -> assertThat(context.getBean(CdsArchiveVerifier.class).isClasspathMatching()).isEmpty());
+    }
+
+    @Test
+    void shouldLoadComponentsRecordClasspathAndStopWhenTraining() {
+        Path archive = directory.resolve("app.jsa");
+        contextRunner.withPropertyValues("springonal.cds.training=true", "springonal.cds.archive=" + archive)
+                .run(context -> {
+                    // Given
+                    ConfigurableApplicationContext source = context.getSourceApplicationContext();
+                    CdsTrainingListener listener = context.getBean(CdsTrainingListener.class);
+
+                    // When
+                    listener.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0],
+                            source, Duration.ZERO));
+
+                    // Then
+                    assertThat(listener.getTrainedComponents())
+                            .containsEntry("UseCase", 1)
+                            .containsEntry("OutboundAdapter", 1)
+                            .containsEntry("InboundAdapter", 0);
+                    assertThat(Files.readString(directory.resolve("app.jsa.classpath")))
+                            .isEqualTo(CdsArchive.fingerprint(System.getProperty("java.class.path")));
+                    assertThat(source.isActive()).isFalse();
+                });
+    }
+
+    @Test
+    void shouldVerifyArchiveAgainstCurrentClasspath() throws Exception {
+        Path archive = directory.resolve("app.jsa");
+        Files.writeString(CdsArchive.fingerprintFile(archive), CdsArchive.fingerprint(System.getProperty("java.class.path")));
+        contextRunner.withPropertyValues("springonal.cds.verify-classpath=true", "springonal.cds.archive=" + archive)
+                .run(context -> assertThat(context.getBean(CdsArchiveVerifier.class).isClasspathMatching()).contains(true));
+
+        Files.writeString(CdsArchive.fingerprintFile(archive), CdsArchive.fingerprint("/other.jar"));
+        contextRunner.withPropertyValues("springonal.cds.verify-classpath=true", "springonal.cds.archive=" + archive)
+                .run(context -> assertThat(context.getBean(CdsArchiveVerifier.class).isClasspathMatching()).contains(false));
+    }
+
+    @Test
+    void shouldResolveArchiveFromJvmArguments() {
+        List<String> arguments = List.of("-Xmx1g", "-XX:SharedArchiveFile=/srv/app.jsa");
+
+        assertThat(CdsArchive.resolve(null, arguments, CdsArchive.SHARED_ARCHIVE)).contains(Path.of("/srv/app.jsa"));
+        assertThat(CdsArchive.resolve(null, arguments, CdsArchive.ARCHIVE_AT_EXIT)).isEmpty();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ComponentConfiguration {
+
+        @Bean
+        PlaceOrder placeOrder() {
+            return new PlaceOrder();
+        }
+
+        @Bean
+        OrderRepository orderRepository() {
+            return new OrderRepository();
+        }
+    }
+
+    @UseCase
+    static class PlaceOrder {
+    }
+
+    @OutboundDatabaseAdapter
+    static class OrderRepository {
+    }
+}
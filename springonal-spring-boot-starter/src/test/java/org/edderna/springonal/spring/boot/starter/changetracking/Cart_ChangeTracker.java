@@ -0,0 +1,66 @@
+package org.edderna.springonal.spring.boot.starter.changetracking;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.core.ChangeTracker;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public final class Cart_ChangeTracker implements ChangeTracker<Cart> {
+
+    @Override
+    public Class<Cart> type() {
+        return Cart.class;
+    }
+
+    @Override
+    public List<String> properties() {
+        return List.of("id", "owner", "quantity");
+    }
+
+    @Override
+    public Object[] snapshot(Cart entity) {
+        return new Object[]{entity.getId(), entity.getOwner(), entity.getQuantity()};
+    }
+
+    @Override
+    public Set<String> changedProperties(Cart entity, Object[] snapshot) {
+        Set<String> changed = new LinkedHashSet<>();
+        if (!Objects.equals(snapshot[0], entity.getId())) {
+            changed.add("id");
+        }
+        if (!Objects.equals(snapshot[1], entity.getOwner())) {
+            changed.add("owner");
+        }
+        if (!Objects.equals(snapshot[2], entity.getQuantity())) {
+            changed.add("quantity");
+        }
+        return changed;
+    }
+
+    @Override
+    public void children(Cart entity, Consumer<Object> consumer) {
+    }
+}
@@ -0,0 +1,194 @@
+package org.edderna.springonal.spring.boot.starter.changetracking;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter;
+import org.edderna.springonal.core.ChangeTracking;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeTrackingAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ChangeTrackingAutoConfiguration.class))
+            .withUserConfiguration(CartConfiguration.class)
+            .withPropertyValues(ChangeTrackingProperties.PREFIX + ".enabled=true");
+
+    @Test
+    void shouldExposeOnlyChangedPropertiesToAdapters() {
+        contextRunner.run(context -> {
+            // Given
+            CartRepository repository = context.getBean(CartRepository.class);
+            repository.put(new Cart("c-1", "ada", 1));
+
+            // When
+            context.getBean(ChangeQuantity.class).change("c-1", 3);
+
+            // Then
+            assertThat(repository.savedChanges()).containsExactly(Optional.of(Set.of("quantity")), Optional.of(Set.of()));
+            assertThat(ChangeTracking.currentUnitOfWork()).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldNotTrackOutsideUseCases() {
+        contextRunner.run(context -> {
+            // Given
+            CartRepository repository = context.getBean(CartRepository.class);
+            repository.put(new Cart("c-1", "ada", 1));
+
+            // When
+            Cart cart = repository.findById("c-1").orElseThrow();
+            cart.setQuantity(5);
+            repository.save(cart);
+
+            // Then
+            assertThat(repository.savedChanges()).containsExactly(Optional.empty());
+        });
+    }
+
+    @Test
+    void shouldOnlyProxyBeansTouchingTrackedTypes() {
+        contextRunner.run(context -> {
+            assertThat(AopUtils.isAopProxy(context.getBean(ChangeQuantity.class))).isTrue();
+            assertThat(AopUtils.isAopProxy(context.getBean(CartRepository.class))).isTrue();
+            assertThat(AopUtils.isAopProxy(context.getBean(CountCarts.class))).isFalse();
+            assertThat(AopUtils.isAopProxy(context.getBean(AuditRepository.class))).isFalse();
+        });
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ChangeTrackingAutoConfiguration.class))
+                .withUserConfiguration(CartConfiguration.class)
+                .run(context -> assertThat(AopUtils.isAopProxy(context.getBean(ChangeQuantity.class))).isFalse());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class CartConfiguration {
+
+        @Bean
+        CartRepository cartRepository() {
+            return new CartRepository();
+        }
+
+        @Bean
+        ChangeQuantity changeQuantity(CartRepository cartRepository) {
+            return new ChangeQuantity(cartRepository);
+        }
+
+        @Bean
+        AuditRepository auditRepository() {
+            return new AuditRepository();
+        }
+
+        @Bean
+        CountCarts countCarts(AuditRepository auditRepository) {
+            return new CountCarts(auditRepository);
+        }
+    }
+
+    @OutboundDatabaseAdapter
+    static class AuditRepository {
+
+        private final List<String> entries = new CopyOnWriteArrayList<>();
+
+        void append(String entry) {
+            entries.add(entry);
+        }
+
+        int count() {
+            return entries.size();
+        }
+    }
+
+    @UseCase
+    static class CountCarts {
+
+        private final AuditRepository repository;
+
+        CountCarts(AuditRepository repository) {
+            this.repository = repository;
+        }
+
+        int count() {
+            repository.append("count");
+            return repository.count();
+        }
+    }
+
+    @OutboundDatabaseAdapter
+    static class CartRepository {
+
+        private final Map<String, Cart> carts = new ConcurrentHashMap<>();
+
+        private final List<Optional<Set<String>>> savedChanges = new CopyOnWriteArrayList<>();
+
+        void put(Cart cart) {
+            carts.put(cart.getId(), cart);
+        }
+
+        List<Optional<Set<String>>> savedChanges() {
+            return savedChanges;
+        }
+
+        Optional<Cart> findById(String id) {
+            return Optional.ofNullable(carts.get(id));
+        }
+
+        void save(Cart cart) {
+            savedChanges.add(ChangeTracking.changedProperties(cart));
+            carts.put(cart.getId(), cart);
+        }
+    }
+
+    @UseCase
+    static class ChangeQuantity {
+
+        private final CartRepository repository;
+
+        ChangeQuantity(CartRepository repository) {
+            this.repository = repository;
+        }
+
+        void change(String id, int quantity) {
+            Cart cart = repository.findById(id).orElseThrow();
+            cart.setQuantity(quantity);
+            repository.save(cart);
+            repository.save(cart);
+        }
+    }
+}
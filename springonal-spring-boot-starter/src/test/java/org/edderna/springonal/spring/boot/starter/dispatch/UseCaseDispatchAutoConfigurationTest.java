@@ -0,0 +1,291 @@
+package org.edderna.springonal.spring.boot.starter.dispatch;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.CommandHandler;
+import org.edderna.springonal.annotations.application.ExecutionMode;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.spring.boot.starter.execution.UseCaseExecutionAutoConfiguration;
+import org.edderna.springonal.spring.boot.starter.execution.UseCaseExecutionProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UseCaseDispatchAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(UseCaseDispatchAutoConfiguration.class,
+                    UseCaseExecutionAutoConfiguration.class))
+            .withUserConfiguration(UseCaseConfiguration.class)
+            .withPropertyValues(UseCaseExecutionProperties.PREFIX + ".enabled=true",
+                    UseCaseDispatchProperties.PREFIX + ".enabled=true");
+
+    @Test
+    void shouldRouteCommandsToTheirUseCaseMethods() {
+        contextRunner.run(context -> {
+            // Given
+            UseCaseDispatcher dispatcher = context.getBean(UseCaseDispatcher.class);
+
+            // When
+            OrderPlaced placed = dispatcher.dispatch(new PlaceOrderCommand("o-1", 3));
+            Object cancelled = dispatcher.dispatch(new CancelOrderCommand("o-1"));
+            int count = dispatcher.dispatch(new CountOrdersCommand());
+
+            // Then
+            assertThat(placed).isEqualTo(new OrderPlaced("o-1", 3));
+            assertThat(cancelled).isNull();
+            assertThat(count).isEqualTo(1);
+            assertThat(context.getBean(OrderBook.class).cancelled()).containsExactly("o-1");
+        });
+    }
+
+    @Test
+    void shouldRouteCommandsThroughTheirSupertypes() {
+        contextRunner.run(context -> {
+            UseCaseDispatcher dispatcher = context.getBean(UseCaseDispatcher.class);
+
+            String carrier = dispatcher.dispatch(new ExpressShipment("o-2"));
+
+            assertThat(carrier).isEqualTo("express:o-2");
+        });
+    }
+
+    @Test
+    void shouldInvokeUseCasesThroughTheirProxies() {
+        contextRunner.run(context -> {
+            UseCaseDispatcher dispatcher = context.getBean(UseCaseDispatcher.class);
+
+            CompletableFuture<Boolean> virtual = dispatcher.dispatch(new NotifyCustomerCommand("o-3"));
+
+            assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldPropagateUseCaseFailures() {
+        contextRunner.run(context -> {
+            UseCaseDispatcher dispatcher = context.getBean(UseCaseDispatcher.class);
+
+            assertThatThrownBy(() -> dispatcher.dispatch(new RefundCommand("o-4", -1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("negative refund");
+            assertThatThrownBy(() -> dispatcher.dispatch(new RefundCommand("o-4", 10)))
+                    .isInstanceOf(UndeclaredThrowableException.class)
+                    .hasCauseInstanceOf(IOException.class);
+        });
+    }
+
+    @Test
+    void shouldRejectUnknownAndAmbiguousCommands() {
+        contextRunner.withUserConfiguration(AmbiguousConfiguration.class).run(context -> {
+            UseCaseDispatcher dispatcher = context.getBean(UseCaseDispatcher.class);
+
+            assertThatThrownBy(() -> dispatcher.dispatch("unrouted"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("No @UseCase handler for command java.lang.String");
+            assertThatThrownBy(() -> dispatcher.dispatch(new CancelOrderCommand("o-5")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageStartingWith("Ambiguous @UseCase handlers for command " + CancelOrderCommand.class.getName());
+        });
+    }
+
+    @Test
+    void shouldOnlyRegisterCommandHandlerMethods() {
+        contextRunner.withUserConfiguration(AmbiguousConfiguration.class).run(context -> {
+            UseCaseDispatcher dispatcher = context.getBean(UseCaseDispatcher.class);
+
+            assertThat(dispatcher.getCommandTypes()).doesNotContain(Object.class, Clock.class);
+            assertThat(dispatcher.<OrderPlaced>dispatch(new PlaceOrderCommand("o-6", 1)))
+                    .isEqualTo(new OrderPlaced("o-6", 1));
+        });
+    }
+
+    @Test
+    void shouldNotRegisterDispatcherUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(UseCaseDispatchAutoConfiguration.class))
+                .withUserConfiguration(UseCaseConfiguration.class)
+                .run(context -> assertThat(context).doesNotHaveBean(UseCaseDispatcher.class));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class UseCaseConfiguration {
+
+        @Bean
+        OrderBook orderBook() {
+            return new OrderBook();
+        }
+
+        @Bean
+        ManageOrders manageOrders(OrderBook orderBook) {
+            return new ManageOrders(orderBook);
+        }
+
+        @Bean
+        ShipOrders shipOrders() {
+            return new ShipOrders();
+        }
+
+        @Bean
+        NotifyCustomer notifyCustomer() {
+            return new NotifyCustomer();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class AmbiguousConfiguration {
+
+        @Bean
+        ArchiveOrders archiveOrders() {
+            return new ArchiveOrders();
+        }
+    }
+
+    record PlaceOrderCommand(String orderId, int quantity) {
+    }
+
+    record CancelOrderCommand(String orderId) {
+    }
+
+    record CountOrdersCommand() {
+    }
+
+    record RefundCommand(String orderId, int amount) {
+    }
+
+    record OrderPlaced(String orderId, int quantity) {
+    }
+
+    interface ShipmentCommand {
+
+        String orderId();
+    }
+
+    record ExpressShipment(String orderId) implements ShipmentCommand {
+    }
+
+    record NotifyCustomerCommand(String orderId) {
+    }
+
+    static class OrderBook {
+
+        private final List<String> cancelled = new ArrayList<>();
+
+        void cancel(String orderId) {
+            cancelled.add(orderId);
+        }
+
+        List<String> cancelled() {
+            return cancelled;
+        }
+    }
+
+    @UseCase
+    static class ManageOrders {
+
+        private final OrderBook orderBook;
+
+        ManageOrders(OrderBook orderBook) {
+            this.orderBook = orderBook;
+        }
+
+        @CommandHandler
+        public OrderPlaced place(PlaceOrderCommand command) {
+            return new OrderPlaced(command.orderId(), command.quantity());
+        }
+
+        @CommandHandler
+        public void cancel(CancelOrderCommand command) {
+            orderBook.cancel(command.orderId());
+        }
+
+        @CommandHandler
+        public int count(CountOrdersCommand command) {
+            return orderBook.cancelled().size();
+        }
+
+        @CommandHandler
+        public void refund(RefundCommand command) throws IOException {
+            if (command.amount() < 0) {
+                throw new IllegalArgumentException("negative refund");
+            }
+            throw new IOException("payment gateway unavailable");
+        }
+    }
+
+    @UseCase
+    static class ShipOrders {
+
+        @CommandHandler
+        public String ship(ShipmentCommand command) {
+            return "express:" + command.orderId();
+        }
+    }
+
+    @UseCase(executionMode = ExecutionMode.VIRTUAL_THREAD)
+    static class NotifyCustomer {
+
+        @CommandHandler
+        public CompletableFuture<Boolean> notify(NotifyCustomerCommand command) {
+            return CompletableFuture.completedFuture(Thread.currentThread().isVirtual());
+        }
+    }
+
+    @UseCase
+    static class ArchiveOrders {
+
+        private Clock clock;
+
+        public void setClock(Clock clock) {
+            this.clock = clock;
+        }
+
+        public void audit(PlaceOrderCommand command) {
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ArchiveOrders;
+        }
+
+        @Override
+        public int hashCode() {
+            return ArchiveOrders.class.hashCode();
+        }
+
+        @CommandHandler
+        public void archive(CancelOrderCommand command) {
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package org.edderna.springonal.spring.boot.starter.events;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.domain.AggregateRoot;
+import org.edderna.springonal.annotations.domain.DomainEventListener;
+import org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter;
+import org.edderna.springonal.core.AbstractAggregateRoot;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainEventAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DomainEventAutoConfiguration.class))
+            .withUserConfiguration(OrderConfiguration.class)
+            .withPropertyValues(DomainEventProperties.PREFIX + ".enabled=true");
+
+    @Test
+    void shouldDeliverRecordedEventsToEveryListenerAfterUseCaseCompletes() {
+        contextRunner.run(context -> {
+            // Given
+            PlaceOrder placeOrder = context.getBean(PlaceOrder.class);
+            OrderListeners listeners = context.getBean(OrderListeners.class);
+
+            // When
+            placeOrder.place("o-1");
+
+            // Then
+            assertThat(listeners.placed.poll(5, TimeUnit.SECONDS)).isEqualTo(new OrderPlaced("o-1"));
+            assertThat(listeners.batches.poll(5, TimeUnit.SECONDS)).containsExactly(new OrderPlaced("o-1"));
+        });
+    }
+
+    @Test
+    void shouldDiscardEventsWhenUseCaseFails() {
+        contextRunner.run(context -> {
+            // Given
+            PlaceOrder placeOrder = context.getBean(PlaceOrder.class);
+            OrderListeners listeners = context.getBean(OrderListeners.class);
+
+            // When
+            assertThatThrownBy(() -> placeOrder.placeAndFail("o-2")).isInstanceOf(IllegalStateException.class);
+            placeOrder.place("o-3");
+
+            // Then
+            assertThat(listeners.placed.poll(5, TimeUnit.SECONDS)).isEqualTo(new OrderPlaced("o-3"));
+            assertThat(listeners.placed).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldDeliverEveryEventInOrderAcrossWrapAround() {
+        contextRunner.withPropertyValues("springonal.events.buffer-size=8", "springonal.events.wait-strategy=yielding")
+                .run(context -> {
+                    // Given
+                    DomainEventBus bus = context.getBean(DomainEventBus.class);
+                    OrderListeners listeners = context.getBean(OrderListeners.class);
+
+                    // When
+                    for (int i = 0; i < 1000; i++) {
+                        bus.publish(new OrderPlaced("o-" + i));
+                    }
+
+                    // Then
+                    for (int i = 0; i < 1000; i++) {
+                        assertThat(listeners.placed.poll(5, TimeUnit.SECONDS)).isEqualTo(new OrderPlaced("o-" + i));
+                    }
+                    assertThat(bus.getRingBuffer().getBufferSize()).isEqualTo(8);
+                });
+    }
+
+    @Test
+    void shouldHandOffEventsPublishedByListenersIntoFullBuffer() {
+        contextRunner.withPropertyValues("springonal.events.buffer-size=2")
+                .withUserConfiguration(FulfilmentConfiguration.class)
+                .run(context -> {
+                    // Given
+                    DomainEventBus bus = context.getBean(DomainEventBus.class);
+                    Fulfilment fulfilment = context.getBean(Fulfilment.class);
+
+                    // When
+                    bus.publish(new OrderPlaced("o-1"));
+
+                    // Then
+                    for (int i = 0; i < 8; i++) {
+                        assertThat(fulfilment.shipped.poll(5, TimeUnit.SECONDS)).isEqualTo(new OrderShipped("o-1", i));
+                    }
+                });
+    }
+
+    @Test
+    void shouldFailPublishWhenBufferStaysFull() {
+        // Given
+        DomainEventRingBuffer ringBuffer = new DomainEventRingBuffer(1, new WaitStrategy.BusySpin());
+        ringBuffer.addGatingSequence();
+        ringBuffer.tryPublish(new OrderPlaced("o-1"), 0);
+
+        // When
+        boolean published = ringBuffer.tryPublish(new OrderPlaced("o-2"), TimeUnit.MILLISECONDS.toNanos(10));
+
+        // Then
+        assertThat(published).isFalse();
+        assertThat(ringBuffer.getCursor()).isZero();
+    }
+
+    @Test
+    void shouldNotPublishEventsUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DomainEventAutoConfiguration.class))
+                .withUserConfiguration(OrderConfiguration.class)
+                .run(context -> assertThat(context).doesNotHaveBean(DomainEventBus.class));
+    }
+
+    @Test
+    void shouldRejectBufferSizesThatAreNotPowersOfTwo() {
+        assertThatThrownBy(() -> new DomainEventRingBuffer(12, new WaitStrategy.BusySpin()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class OrderConfiguration {
+
+        @Bean
+        OrderRepository orderRepository() {
+            return new OrderRepository();
+        }
+
+        @Bean
+        PlaceOrder placeOrder(OrderRepository orderRepository) {
+            return new PlaceOrder(orderRepository);
+        }
+
+        @Bean
+        OrderListeners orderListeners() {
+            return new OrderListeners();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class FulfilmentConfiguration {
+
+        @Bean
+        Fulfilment fulfilment(DomainEventBus bus) {
+            return new Fulfilment(bus);
+        }
+    }
+
+    record OrderPlaced(String orderId) {
+    }
+
+    record OrderShipped(String orderId, int parcel) {
+    }
+
+    @AggregateRoot
+    static class Order extends AbstractAggregateRoot {
+
+        static Order place(String id) {
+            Order order = new Order();
+            order.registerEvent(new OrderPlaced(id));
+            return order;
+        }
+    }
+
+    @OutboundDatabaseAdapter
+    static class OrderRepository {
+
+        void save(Order order) {
+        }
+    }
+
+    @UseCase
+    static class PlaceOrder {
+
+        private final OrderRepository repository;
+
+        PlaceOrder(OrderRepository repository) {
+            this.repository = repository;
+        }
+
+        void place(String id) {
+            repository.save(Order.place(id));
+        }
+
+        void placeAndFail(String id) {
+            repository.save(Order.place(id));
+            throw new IllegalStateException("Payment declined");
+        }
+    }
+
+    static class OrderListeners {
+
+        final BlockingQueue<OrderPlaced> placed = new LinkedBlockingQueue<>();
+
+        final BlockingQueue<List<OrderPlaced>> batches = new LinkedBlockingQueue<>();
+
+        @DomainEventListener
+        void onPlaced(OrderPlaced event) {
+            placed.add(event);
+        }
+
+        @DomainEventListener
+        void onPlacedBatch(List<OrderPlaced> events) {
+            batches.add(new CopyOnWriteArrayList<>(events));
+        }
+    }
+
+    static class Fulfilment {
+
+        final BlockingQueue<OrderShipped> shipped = new LinkedBlockingQueue<>();
+
+        private final DomainEventBus bus;
+
+        Fulfilment(DomainEventBus bus) {
+            this.bus = bus;
+        }
+
+        @DomainEventListener
+        void onPlaced(OrderPlaced event) {
+            for (int i = 0; i < 8; i++) {
+                bus.publish(new OrderShipped(event.orderId(), i));
+            }
+        }
+
+        @DomainEventListener
+        void onShipped(OrderShipped event) {
+            shipped.add(event);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.edderna.springonal.spring.boot.starter.execution;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.ExecutionMode;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UseCaseExecutionAutoConfigurationTest {
+
+    private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(UseCaseExecutionAutoConfiguration.class))
+            .withUserConfiguration(UseCaseConfiguration.class)
+            .withPropertyValues(UseCaseExecutionProperties.PREFIX + ".enabled=true");
+
+    @Test
+    void shouldRunFutureReturningMethodsOnVirtualThreads() {
+        contextRunner.run(context -> {
+            // Given
+            ShipOrder useCase = context.getBean(ShipOrder.class);
+
+            // When
+            CompletableFuture<Boolean> virtual = useCase.isVirtual();
+            Future<String> threadName = useCase.threadName();
+
+            // Then
+            assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(threadName.get(5, TimeUnit.SECONDS)).startsWith("springonal-use-case-");
+        });
+    }
+
+    @Test
+    void shouldRunVoidMethodsOnCallerThread() {
+        contextRunner.run(context -> {
+            // Given
+            ShipOrder useCase = context.getBean(ShipOrder.class);
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicBoolean virtual = new AtomicBoolean(true);
+            TENANT.set("acme");
+
+            // When
+            try {
+                useCase.ship(latch, virtual);
+            } finally {
+                TENANT.remove();
+            }
+
+            // Then
+            assertThat(latch.getCount()).isZero();
+            assertThat(virtual).isFalse();
+        });
+    }
+
+    @Test
+    void shouldPropagateFailuresThroughFuture() {
+        contextRunner.run(context -> {
+            // Given
+            ShipOrder useCase = context.getBean(ShipOrder.class);
+
+            // When
+            CompletableFuture<Void> failure = useCase.fail();
+
+            // Then
+            assertThatThrownBy(() -> failure.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        });
+    }
+
+    @Test
+    void shouldPropagateFailuresOfVoidMethodsToCaller() {
+        contextRunner.run(context -> {
+            // Given
+            ShipOrder useCase = context.getBean(ShipOrder.class);
+
+            // When / Then
+            assertThatThrownBy(useCase::cancel)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("shipment already left");
+        });
+    }
+
+    @Test
+    void shouldApplyTaskDecoratorsAcrossHandOff() {
+        contextRunner.withUserConfiguration(TenantPropagationConfiguration.class).run(context -> {
+            // Given
+            ShipOrder useCase = context.getBean(ShipOrder.class);
+            TENANT.set("acme");
+
+            // When
+            CompletableFuture<String> tenant;
+            try {
+                tenant = useCase.tenant();
+            } finally {
+                TENANT.remove();
+            }
+
+            // Then
+            assertThat(tenant.get(5, TimeUnit.SECONDS)).isEqualTo("acme");
+        });
+    }
+
+    @Test
+    void shouldNotProxySynchronousUseCases() {
+        contextRunner.run(context -> {
+            assertThat(AopUtils.isAopProxy(context.getBean(CancelOrder.class))).isFalse();
+            assertThat(AopUtils.isAopProxy(context.getBean(ShipOrder.class))).isTrue();
+        });
+    }
+
+    @Test
+    void shouldNotProxyUseCasesUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(UseCaseExecutionAutoConfiguration.class))
+                .withUserConfiguration(UseCaseConfiguration.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(UseCaseExecutionPostProcessor.class);
+                    assertThat(AopUtils.isAopProxy(context.getBean(ShipOrder.class))).isFalse();
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class UseCaseConfiguration {
+
+        @Bean
+        ShipOrder shipOrder() {
+            return new ShipOrder();
+        }
+
+        @Bean
+        CancelOrder cancelOrder() {
+            return new CancelOrder();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class TenantPropagationConfiguration {
+
+        @Bean
+        TaskDecorator tenantTaskDecorator() {
+            return runnable -> {
+                String tenant = TENANT.get();
+                return () -> {
+                    TENANT.set(tenant);
+                    try {
+                        runnable.run();
+                    } finally {
+                        TENANT.remove();
+                    }
+                };
+            };
+        }
+    }
+
+    @UseCase(executionMode = ExecutionMode.VIRTUAL_THREAD)
+    static class ShipOrder {
+
+        CompletableFuture<Boolean> isVirtual() {
+            return CompletableFuture.completedFuture(Thread.currentThread().isVirtual());
+        }
+
+        Future<String> threadName() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+
+        CompletableFuture<String> tenant() {
+            return CompletableFuture.completedFuture(TENANT.get());
+        }
+
+        CompletableFuture<Void> fail() {
+            throw new IllegalStateException("carrier unavailable");
+        }
+
+        void ship(CountDownLatch latch, AtomicBoolean virtual) {
+            virtual.set(Thread.currentThread().isVirtual());
+            if ("acme".equals(TENANT.get())) {
+                latch.countDown();
+            }
+        }
+
+        void cancel() {
+            throw new IllegalStateException("shipment already left");
+        }
+    }
+
+    @UseCase
+    static class CancelOrder {
+    }
+}
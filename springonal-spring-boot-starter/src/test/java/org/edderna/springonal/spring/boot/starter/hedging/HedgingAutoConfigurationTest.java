@@ -0,0 +1,217 @@
+package org.edderna.springonal.spring.boot.starter.hedging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.edderna.springonal.annotations.infrastructure.Idempotent;
+import org.edderna.springonal.annotations.infrastructure.OutboundApiAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgingAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(HedgingAutoConfiguration.class))
+            .withUserConfiguration(AdapterConfiguration.class)
+            .withPropertyValues("springonal.hedging.enabled=true", "springonal.hedging.min-samples=5",
+                    "springonal.hedging.budget-ratio=0.5");
+
+    @Test
+    void shouldSendHedgeWhenCallIsSlowerThanObservedPercentile() {
+        contextRunner.run(context -> {
+            // Given
+            QuoteApi api = context.getBean(QuoteApi.class);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean(HedgingMetrics.class).bindTo(registry);
+            warmUp(api);
+            api.slowNext();
+
+            // When
+            long start = System.nanoTime();
+            String quote = api.quote("ACME");
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            // Then
+            assertThat(quote).isEqualTo("quote-ACME");
+            assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+            assertThat(api.awaitInterrupted()).isTrue();
+            assertThat(registry.get("springonal.adapter.hedge.requests").functionCounter().count()).isEqualTo(1);
+            assertThat(registry.get("springonal.adapter.hedge.wins").functionCounter().count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldNotHedgeWhenBudgetIsExhausted() {
+        contextRunner.withPropertyValues("springonal.hedging.budget-ratio=0").run(context -> {
+            // Given
+            QuoteApi api = context.getBean(QuoteApi.class);
+            warmUp(api);
+            api.slowNext();
+
+            // When
+            api.quote("ACME");
+
+            // Then
+            assertThat(api.calls()).isEqualTo(6);
+        });
+    }
+
+    @Test
+    void shouldHedgeMethodsListedInProperties() {
+        contextRunner.withPropertyValues("springonal.hedging.methods=" + QuoteApi.class.getName() + "#currency")
+                .run(context -> assertThat(AopUtils.isAopProxy(context.getBean(QuoteApi.class))).isTrue());
+    }
+
+    @Test
+    void shouldPropagateFailuresFromAttempts() {
+        contextRunner.run(context -> {
+            // Given
+            QuoteApi api = context.getBean(QuoteApi.class);
+            warmUp(api);
+
+            // When / Then
+            assertThatThrownBy(() -> api.quote("")).isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    void shouldNotProxyAdaptersWithoutIdempotentMethods() {
+        contextRunner.run(context ->
+                assertThat(AopUtils.isAopProxy(context.getBean(OrderApi.class))).isFalse());
+    }
+
+    @Test
+    void shouldDeriveHedgeDelayFromLatestWindowOnly() throws NoSuchMethodException {
+        // Given
+        HedgingProperties properties = new HedgingProperties();
+        properties.setMinSamples(5);
+        properties.setRefreshInterval(Duration.ZERO);
+        HedgedMethod method = new HedgedMethod(QuoteApi.class, QuoteApi.class.getMethod("quote", String.class), properties);
+        for (int i = 0; i < 5; i++) {
+            method.onCompleted(Duration.ofMillis(100).toNanos(), false);
+        }
+        long slowDelay = method.hedgeDelayNanos();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            method.onCompleted(Duration.ofMillis(2).toNanos(), false);
+        }
+
+        // Then
+        assertThat(slowDelay).isGreaterThanOrEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(method.hedgeDelayNanos()).isLessThan(Duration.ofMillis(3).toNanos());
+    }
+
+    @Test
+    void shouldNotHedgeUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(HedgingAutoConfiguration.class))
+                .withUserConfiguration(AdapterConfiguration.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(HedgingPostProcessor.class);
+                    assertThat(AopUtils.isAopProxy(context.getBean(QuoteApi.class))).isFalse();
+                });
+    }
+
+    private static void warmUp(QuoteApi api) {
+        for (int i = 0; i < 5; i++) {
+            api.quote("ACME");
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class AdapterConfiguration {
+
+        @Bean
+        QuoteApi quoteApi() {
+            return new QuoteApi();
+        }
+
+        @Bean
+        OrderApi orderApi() {
+            return new OrderApi();
+        }
+    }
+
+    @OutboundApiAdapter
+    static class QuoteApi {
+
+        private final AtomicBoolean slowNext = new AtomicBoolean();
+
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Idempotent
+        public String quote(String symbol) {
+            calls.incrementAndGet();
+            if (symbol.isEmpty()) {
+                throw new IllegalArgumentException("Empty symbol");
+            }
+            if (slowNext.getAndSet(false)) {
+                try {
+                    Thread.sleep(2_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "quote-" + symbol;
+        }
+
+        public String currency() {
+            return "EUR";
+        }
+
+        void slowNext() {
+            slowNext.set(true);
+        }
+
+        boolean awaitInterrupted() throws InterruptedException {
+            return interrupted.await(5, TimeUnit.SECONDS);
+        }
+
+        int calls() {
+            return calls.get();
+        }
+    }
+
+    @OutboundApiAdapter
+    static class OrderApi {
+
+        public String place(String order) {
+            return order;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package org.edderna.springonal.spring.boot.starter.isolation;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.edderna.springonal.annotations.application.ExecutionMode;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.infrastructure.OutboundApiAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutorIsolationAutoConfigurationTest {
+
+    private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ExecutorIsolationAutoConfiguration.class))
+            .withUserConfiguration(IsolationConfiguration.class)
+            .withPropertyValues("springonal.isolation.enabled=true");
+
+    @Test
+    void shouldRunCpuBoundUseCasesOnTheCpuPool() {
+        contextRunner.withPropertyValues("springonal.isolation.cpu.threads=1").run(context -> {
+            // Given
+            PriceQuote useCase = context.getBean(PriceQuote.class);
+            QuoteBasket basket = context.getBean(QuoteBasket.class);
+
+            // When
+            String thread = useCase.threadName();
+            String[] nested = basket.threadNames().split("\\|");
+
+            // Then
+            assertThat(thread).startsWith("springonal-cpu-");
+            assertThat(nested[0]).startsWith("springonal-cpu-").isEqualTo(nested[1]);
+        });
+    }
+
+    @Test
+    void shouldPropagateCpuBoundFailuresUnwrapped() {
+        contextRunner.run(context -> assertThatThrownBy(() -> context.getBean(PriceQuote.class).fail())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("unknown product"));
+    }
+
+    @Test
+    void shouldWaitForVoidCpuBoundUseCases() {
+        contextRunner.run(context -> assertThatThrownBy(() -> context.getBean(PriceQuote.class).reject())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("quotes closed"));
+    }
+
+    @Test
+    void shouldRunOutboundCallsOnVirtualThreads() {
+        contextRunner.run(context -> {
+            // Given
+            RatesClient client = context.getBean(RatesClient.class);
+
+            // When
+            boolean virtual = client.isVirtual();
+            CompletableFuture<Boolean> async = client.isVirtualAsync();
+
+            // Then
+            assertThat(virtual).isTrue();
+            assertThat(async.get(5, TimeUnit.SECONDS)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldKeepOutboundCallsInsideTransactionsOnTheCallerThread() {
+        contextRunner.run(context -> {
+            // Given
+            RatesClient client = context.getBean(RatesClient.class);
+            TransactionTemplate transaction = new TransactionTemplate(new NoOpTransactionManager());
+
+            // When
+            boolean[] inside = transaction.execute(status -> new boolean[]{client.inTransaction(), client.isVirtual()});
+
+            // Then
+            assertThat(inside).containsExactly(true, false);
+            assertThat(client.inTransaction()).isFalse();
+            assertThat(client.isVirtual()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldPropagateContextToIsolatedCalls() {
+        contextRunner.withBean(TaskDecorator.class, () -> runnable -> {
+            String tenant = TENANT.get();
+            return () -> {
+                TENANT.set(tenant);
+                try {
+                    runnable.run();
+                } finally {
+                    TENANT.remove();
+                }
+            };
+        }).run(context -> {
+            // Given
+            TENANT.set("acme");
+
+            // When / Then
+            try {
+                assertThat(context.getBean(PriceQuote.class).tenant()).isEqualTo("acme");
+                assertThat(context.getBean(RatesClient.class).tenant()).isEqualTo("acme");
+            } finally {
+                TENANT.remove();
+            }
+        });
+    }
+
+    @Test
+    void shouldLimitParallelismPerOutboundAdapter() {
+        contextRunner.withPropertyValues(
+                        "springonal.isolation.outbound.adapters[" + RatesClient.class.getName() + "]=1",
+                        "springonal.isolation.outbound.acquire-timeout=100ms")
+                .run(context -> {
+                    // Given
+                    RatesClient client = context.getBean(RatesClient.class);
+                    Gate gate = context.getBean(Gate.class);
+                    Thread blocked = Thread.ofPlatform().start(client::await);
+                    assertThat(gate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+                    // When / Then
+                    try {
+                        assertThatThrownBy(client::isVirtual).isInstanceOf(RejectedExecutionException.class);
+                        OutboundBulkheads.Bulkhead bulkhead = context.getBean(OutboundBulkheads.class)
+                                .bulkhead(RatesClient.class);
+                        assertThat(bulkhead.getInFlight()).isEqualTo(1);
+                        assertThat(bulkhead.getRejections()).isEqualTo(1);
+                    } finally {
+                        gate.release.countDown();
+                        blocked.join();
+                    }
+                });
+    }
+
+    @Test
+    void shouldReportQueueDepthAndSaturationPerLayer() {
+        contextRunner.run(context -> {
+            // Given
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean(ExecutorIsolationMetrics.class).bindTo(registry);
+
+            // When
+            context.getBean(RatesClient.class).isVirtual();
+
+            // Then
+            assertThat(registry.get("springonal.layer.queue.depth").tag("layer", "use-case").gauge().value()).isZero();
+            assertThat(registry.get("springonal.layer.saturation")
+                    .tags("layer", "outbound", "adapter", RatesClient.class.getName()).gauge().value()).isZero();
+        });
+    }
+
+    @Test
+    void shouldNotIsolateByDefault() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ExecutorIsolationAutoConfiguration.class))
+                .withUserConfiguration(IsolationConfiguration.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(CpuBoundExecutor.class);
+                    assertThat(context.getBean(PriceQuote.class).threadName()).doesNotStartWith("springonal-cpu-");
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class IsolationConfiguration {
+
+        @Bean
+        Gate gate() {
+            return new Gate();
+        }
+
+        @Bean
+        PriceQuote priceQuote() {
+            return new PriceQuote();
+        }
+
+        @Bean
+        QuoteBasket quoteBasket(PriceQuote priceQuote) {
+            return new QuoteBasket(priceQuote);
+        }
+
+        @Bean
+        RatesClient ratesClient(Gate gate) {
+            return new RatesClient(gate);
+        }
+    }
+
+    static class Gate {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+    }
+
+    @UseCase(executionMode = ExecutionMode.CPU_BOUND)
+    static class PriceQuote {
+
+        public String threadName() {
+            return Thread.currentThread().getName();
+        }
+
+        public int fail() {
+            throw new IllegalArgumentException("unknown product");
+        }
+
+        public void reject() {
+            throw new IllegalStateException("quotes closed");
+        }
+
+        public String tenant() {
+            return Thread.currentThread().getName().startsWith("springonal-cpu-") ? TENANT.get() : null;
+        }
+    }
+
+    @UseCase(executionMode = ExecutionMode.CPU_BOUND)
+    static class QuoteBasket {
+
+        private final PriceQuote priceQuote;
+
+        QuoteBasket(PriceQuote priceQuote) {
+            this.priceQuote = priceQuote;
+        }
+
+        public String threadNames() {
+            return Thread.currentThread().getName() + "|" + priceQuote.threadName();
+        }
+    }
+
+    @OutboundApiAdapter
+    static class RatesClient {
+
+        private final Gate gate;
+
+        RatesClient(Gate gate) {
+            this.gate = gate;
+        }
+
+        public boolean isVirtual() {
+            return Thread.currentThread().isVirtual();
+        }
+
+        public boolean inTransaction() {
+            return TransactionSynchronizationManager.isActualTransactionActive();
+        }
+
+        public String tenant() {
+            return Thread.currentThread().isVirtual() ? TENANT.get() : null;
+        }
+
+        public CompletableFuture<Boolean> isVirtualAsync() {
+            return CompletableFuture.completedFuture(Thread.currentThread().isVirtual());
+        }
+
+        public void await() {
+            gate.entered.countDown();
+            try {
+                gate.release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package org.edderna.springonal.spring.boot.starter.limiter;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void shouldRejectCallsOverLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(2));
+
+        // When
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWaitForReleaseWhenQueueingIsEnabled() throws InterruptedException {
+        // Given
+        ConcurrencyLimiterProperties properties = properties(1);
+        properties.setMaxWait(Duration.ofSeconds(5));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        limiter.tryAcquire();
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            sleep();
+            limiter.release("pay", 1_000);
+        });
+
+        // When
+        boolean acquired = limiter.tryAcquire();
+        releaser.join();
+
+        // Then
+        assertThat(acquired).isTrue();
+        assertThat(limiter.getRejections()).isZero();
+    }
+
+    @Test
+    void shouldDecreaseLimitMultiplicativelyWhenLatencyGrows() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+        limiter.tryAcquire();
+        limiter.release("pay", 1_000_000);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release("pay", 10_000_000);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    void shouldDecreaseLimitOncePerBurstOfSlowResponses() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+        limiter.tryAcquire();
+        limiter.release("pay", 1_000_000);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            limiter.release("pay", 10_000_000);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    void shouldTreatFailuresAsDropSignals() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+        limiter.tryAcquire();
+        limiter.release("pay", 1_000_000);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release("pay", 1_000, true);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    void shouldResetMinimumLatencyToWindowMinimum() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+        for (int i = 0; i < 999; i++) {
+            limiter.tryAcquire();
+            limiter.release("pay", 1_000_000);
+        }
+
+        // When
+        limiter.tryAcquire();
+        limiter.release("pay", 50_000_000);
+        Thread.sleep(60);
+        limiter.tryAcquire();
+        limiter.release("pay", 50_000_000);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldTrackMinimumLatencyPerOperation() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(20));
+        limiter.tryAcquire();
+        limiter.release("lookup", 1_000);
+        limiter.tryAcquire();
+        limiter.release("pay", 10_000_000);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release("pay", 10_000_000);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldIncreaseLimitAdditivelyWhileSaturatedAndHealthy() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(4));
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            limiter.release("pay", 1_000_000);
+            limiter.tryAcquire();
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNeverDropBelowMinimumLimit() {
+        // Given
+        ConcurrencyLimiterProperties properties = properties(2);
+        properties.setMinLimit(2);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        limiter.tryAcquire();
+        limiter.release("pay", 1_000);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release("pay", 1_000_000_000);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    private static ConcurrencyLimiterProperties properties(int initialLimit) {
+        ConcurrencyLimiterProperties properties = new ConcurrencyLimiterProperties();
+        properties.setInitialLimit(initialLimit);
+        return properties;
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.edderna.springonal.spring.boot.starter.limiter;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.edderna.springonal.annotations.infrastructure.OutboundApiAdapter;
+import org.edderna.springonal.spring.boot.starter.cache.AdapterCacheAutoConfiguration;
+import org.edderna.springonal.spring.boot.starter.cache.AdapterCacheInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimiterAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConcurrencyLimiterAutoConfiguration.class))
+            .withUserConfiguration(AdapterConfiguration.class);
+
+    @Test
+    void shouldNotLimitAdaptersByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(ConcurrencyLimiterPostProcessor.class);
+            assertThat(AopUtils.isAopProxy(context.getBean(PaymentApi.class))).isFalse();
+        });
+    }
+
+    @Test
+    void shouldRejectCallsOverLimitAndExposeMetrics() {
+        contextRunner.withPropertyValues("springonal.limiter.enabled=true", "springonal.limiter.initial-limit=1")
+                .run(context -> {
+                    // Given
+                    PaymentApi api = context.getBean(PaymentApi.class);
+                    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+                    context.getBean(ConcurrencyLimiterMetrics.class).bindTo(registry);
+                    CountDownLatch entered = new CountDownLatch(1);
+                    CountDownLatch release = new CountDownLatch(1);
+                    Thread slowCall = Thread.ofVirtual().start(() -> api.pay(entered, release));
+                    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+                    // When / Then
+                    assertThatThrownBy(() -> api.pay(new CountDownLatch(1), new CountDownLatch(0)))
+                            .isInstanceOf(ConcurrencyLimitExceededException.class)
+                            .hasMessageContaining(PaymentApi.class.getName());
+                    assertThat(registry.get("springonal.adapter.concurrency.in-flight").gauge().value()).isEqualTo(1);
+                    assertThat(registry.get("springonal.adapter.concurrency.rejections").functionCounter().count())
+                            .isEqualTo(1);
+                    release.countDown();
+                    slowCall.join();
+                    assertThat(registry.get("springonal.adapter.concurrency.in-flight").gauge().value()).isZero();
+                    assertThat(registry.get("springonal.adapter.concurrency.limit").gauge().value()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void shouldLimitOnlyCallsThatMissTheAdapterCache() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(AdapterCacheAutoConfiguration.class,
+                        ConcurrencyLimiterAutoConfiguration.class))
+                .withUserConfiguration(AdapterConfiguration.class)
+                .withPropertyValues("springonal.limiter.enabled=true", "springonal.cache.enabled=true",
+                        "springonal.cache.adapters[" + PaymentApi.class.getName() + "].enabled=true")
+                .run(context -> {
+                    Advised api = (Advised) context.getBean(PaymentApi.class);
+
+                    assertThat(api.getAdvisors())
+                            .extracting(advisor -> (Object) advisor.getAdvice().getClass())
+                            .containsExactly(AdapterCacheInterceptor.class, ConcurrencyLimiterInterceptor.class);
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class AdapterConfiguration {
+
+        @Bean
+        PaymentApi paymentApi() {
+            return new PaymentApi();
+        }
+    }
+
+    @OutboundApiAdapter
+    static class PaymentApi {
+
+        public String status(String paymentId) {
+            return "settled:" + paymentId;
+        }
+
+        public void pay(CountDownLatch entered, CountDownLatch release) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package org.edderna.springonal.spring.boot.starter.messaging;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.interfaces.IndoundMessageAdapter;
+import org.edderna.springonal.annotations.interfaces.MessageHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessagingAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MessagingAutoConfiguration.class))
+            .withUserConfiguration(PaymentConfiguration.class)
+            .withPropertyValues(MessagingProperties.PREFIX + ".enabled=true");
+
+    private final ApplicationContextRunner chargebackRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MessagingAutoConfiguration.class))
+            .withUserConfiguration(ChargebackConfiguration.class)
+            .withPropertyValues(MessagingProperties.PREFIX + ".enabled=true",
+                    MessagingProperties.PREFIX + ".poll-backoff=10ms");
+
+    @Test
+    void shouldKeepPerKeyOrderAcrossParallelLanes() {
+        contextRunner.withPropertyValues("springonal.messaging.lanes=4").run(context -> {
+            // Given
+            InMemoryMessageSource source = context.getBean(InMemoryMessageSource.class);
+            PaymentListener listener = context.getBean(PaymentListener.class);
+
+            // When
+            for (int i = 0; i < 1000; i++) {
+                source.send("payments", "account-" + (i % 16), new Payment("account-" + (i % 16), i));
+            }
+
+            // Then
+            assertThat(listener.handled.await(10, TimeUnit.SECONDS)).isTrue();
+            listener.sequencesByAccount.values().forEach(sequences -> assertThat(sequences).isSorted());
+            assertThat(listener.threads).hasSizeGreaterThan(1);
+        });
+    }
+
+    @Test
+    void shouldDeliverBatchesToListHandlers() {
+        contextRunner.run(context -> {
+            // Given
+            InMemoryMessageSource source = context.getBean(InMemoryMessageSource.class);
+            PaymentListener listener = context.getBean(PaymentListener.class);
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                source.send("refunds", null, new Payment("account-" + i, i));
+            }
+
+            // Then
+            assertThat(listener.refunded.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(listener.batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 8));
+        });
+    }
+
+    @Test
+    void shouldApplyBackpressureToTheSource() {
+        contextRunner.withPropertyValues("springonal.messaging.queue-capacity=2").run(context -> {
+            // Given
+            InMemoryMessageSource source = context.getBean(InMemoryMessageSource.class);
+            PaymentListener listener = context.getBean(PaymentListener.class);
+
+            // When
+            for (int i = 0; i < 50; i++) {
+                source.send("audits", "account-1", new Payment("account-1", i));
+            }
+            Thread.sleep(200);
+
+            // Then
+            assertThat(source.pending("audits")).isGreaterThan(0);
+            assertThat(context.getBean(MessageConsumers.class).getConsumers())
+                    .filteredOn(lanes -> lanes.getDestination().equals("audits"))
+                    .singleElement()
+                    .satisfies(lanes -> assertThat(lanes.getDepth(0)).isEqualTo(2));
+            listener.releaseAudits.countDown();
+        });
+    }
+
+    @Test
+    void shouldKeepPollingAfterSourceFailures() {
+        chargebackRunner.run(context -> {
+            // Given
+            FlakyMessageSource source = context.getBean(FlakyMessageSource.class);
+            ChargebackListener listener = context.getBean(ChargebackListener.class);
+            source.failures.set(3);
+
+            // When
+            source.send("chargebacks", "account-1", new Payment("account-1", 1));
+
+            // Then
+            assertThat(listener.handled.poll(5, TimeUnit.SECONDS)).isEqualTo(new Payment("account-1", 1));
+            assertThat(source.failures).hasValue(0);
+        });
+    }
+
+    @Test
+    void shouldAcknowledgeHandledMessagesAndRejectFailedOnes() {
+        chargebackRunner.run(context -> {
+            // Given
+            FlakyMessageSource source = context.getBean(FlakyMessageSource.class);
+
+            // When
+            source.send("chargebacks", "account-1", new Payment("account-1", 1));
+            source.send("chargebacks", "account-1", new Payment("account-1", -1));
+
+            // Then
+            assertThat(source.acknowledged.poll(5, TimeUnit.SECONDS)).isEqualTo(new Payment("account-1", 1));
+            assertThat(source.rejected.poll(5, TimeUnit.SECONDS)).isEqualTo(new Payment("account-1", -1));
+            assertThat(source.rejected("chargebacks")).extracting(message -> (Object) message.payload())
+                    .containsExactly(new Payment("account-1", -1));
+        });
+    }
+
+    @Test
+    void shouldNotConsumeMessagesUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(MessagingAutoConfiguration.class))
+                .withUserConfiguration(PaymentConfiguration.class)
+                .run(context -> assertThat(context).doesNotHaveBean(MessageConsumers.class));
+    }
+
+    @Test
+    void shouldCreateOneLanePerProcessorByDefault() {
+        assertThat(new MessagingProperties().getLanes()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class PaymentConfiguration {
+
+        @Bean
+        InMemoryMessageSource inMemoryMessageSource() {
+            return new InMemoryMessageSource();
+        }
+
+        @Bean
+        PaymentListener paymentListener() {
+            return new PaymentListener();
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ChargebackConfiguration {
+
+        @Bean
+        FlakyMessageSource flakyMessageSource() {
+            return new FlakyMessageSource();
+        }
+
+        @Bean
+        ChargebackListener chargebackListener() {
+            return new ChargebackListener();
+        }
+    }
+
+    record Payment(String account, int sequence) {
+    }
+
+    static class FlakyMessageSource extends InMemoryMessageSource {
+
+        final AtomicInteger failures = new AtomicInteger();
+
+        final BlockingQueue<Object> acknowledged = new LinkedBlockingQueue<>();
+
+        final BlockingQueue<Object> rejected = new LinkedBlockingQueue<>();
+
+        @Override
+        public List<InboundMessage<?>> poll(String destination, int maxMessages, Duration timeout) throws InterruptedException {
+            if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IllegalStateException("Broker unavailable");
+            }
+            return super.poll(destination, maxMessages, timeout);
+        }
+
+        @Override
+        public void acknowledge(String destination, List<InboundMessage<?>> messages) {
+            messages.forEach(message -> acknowledged.add(message.payload()));
+        }
+
+        @Override
+        public void reject(String destination, List<InboundMessage<?>> messages, Exception cause) {
+            super.reject(destination, messages, cause);
+            messages.forEach(message -> rejected.add(message.payload()));
+        }
+    }
+
+    @IndoundMessageAdapter
+    static class ChargebackListener {
+
+        final BlockingQueue<Payment> handled = new LinkedBlockingQueue<>();
+
+        @MessageHandler(destination = "chargebacks", lanes = 1)
+        void onChargeback(Payment payment) {
+            if (payment.sequence() < 0) {
+                throw new IllegalArgumentException("Negative chargeback");
+            }
+            handled.add(payment);
+        }
+    }
+
+    @IndoundMessageAdapter
+    static class PaymentListener {
+
+        final Map<String, List<Integer>> sequencesByAccount = new ConcurrentHashMap<>();
+
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        final CountDownLatch handled = new CountDownLatch(1000);
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        final CountDownLatch refunded = new CountDownLatch(100);
+
+        final CountDownLatch releaseAudits = new CountDownLatch(1);
+
+        @MessageHandler(destination = "payments")
+        void onPayment(Payment payment) {
+            sequencesByAccount.computeIfAbsent(payment.account(), _ -> new CopyOnWriteArrayList<>()).add(payment.sequence());
+            threads.add(Thread.currentThread().getName());
+            handled.countDown();
+        }
+
+        @MessageHandler(destination = "refunds", lanes = 2, maxBatchSize = 8)
+        void onRefunds(List<InboundMessage<Payment>> refunds) {
+            batchSizes.add(refunds.size());
+            refunds.forEach(_ -> refunded.countDown());
+        }
+
+        @MessageHandler(destination = "audits", lanes = 1, maxBatchSize = 1)
+        void onAudit(Payment payment) throws InterruptedException {
+            releaseAudits.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReturnZeroPercentilesWhenEmpty() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.percentileNanos(0.99)).isZero();
+        assertThat(snapshot.meanNanos()).isZero();
+    }
+
+    @Test
+    void shouldTrackCountTotalAndMax() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        histogram.record(1_000);
+        histogram.record(3_000);
+        histogram.record(-5);
+
+        // Then
+        assertThat(histogram.count()).isEqualTo(3);
+        assertThat(histogram.totalTime(TimeUnit.MICROSECONDS)).isEqualTo(4.0);
+        assertThat(histogram.snapshot().maxNanos()).isEqualTo(3_000);
+    }
+
+    @Test
+    void shouldEstimatePercentilesWithinBucketPrecision() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        IntStream.rangeClosed(1, 10_000).forEach(i -> histogram.record(i * 1_000L));
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertThat((double) snapshot.percentileNanos(0.5)).isCloseTo(5_000_000, within(5_000_000 * 0.125));
+        assertThat((double) snapshot.percentileNanos(0.99)).isCloseTo(9_900_000, within(9_900_000 * 0.125));
+        assertThat(snapshot.percentileNanos(1.0)).isEqualTo(10_000_000);
+    }
+
+    @Test
+    void shouldMapEveryValueIntoBucketContainingIt() {
+        // Given
+        long[] values = {0, 7, 8, 9, 15, 16, 1_000, 123_456_789, 1L << 40, (1L << 41) - 1};
+
+        // When / Then
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertThat(index).isBetween(0, LatencyHistogram.BUCKETS - 1);
+            assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void shouldClampValuesAboveTrackableRange() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        histogram.record(Long.MAX_VALUE);
+
+        // Then
+        assertThat(histogram.snapshot().counts()[LatencyHistogram.BUCKETS - 1]).isEqualTo(1);
+    }
+}
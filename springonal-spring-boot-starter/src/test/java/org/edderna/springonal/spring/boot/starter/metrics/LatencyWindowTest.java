@@ -0,0 +1,78 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyWindowTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LatencyWindow window = new LatencyWindow(Duration.ofNanos(1_000_000), clock::get);
+
+    @Test
+    void shouldKeepPreviousSliceAfterRotation() {
+        // Given
+        window.record(1_000);
+
+        // When
+        clock.addAndGet(1_500_000);
+        window.record(3_000);
+
+        // Then
+        assertThat(window.snapshot().count()).isEqualTo(2);
+        assertThat(window.snapshot().maxNanos()).isEqualTo(3_000);
+    }
+
+    @Test
+    void shouldForgetSamplesOlderThanTwoWindows() {
+        // Given
+        IntStream.range(0, 100).forEach(_ -> window.record(50_000_000));
+
+        // When
+        clock.addAndGet(1_000_000);
+        window.record(1_000);
+        clock.addAndGet(1_000_000);
+        window.record(1_000);
+
+        // Then
+        assertThat(window.snapshot().count()).isEqualTo(2);
+        assertThat(window.snapshot().percentileNanos(0.99)).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldBeEmptyAfterIdlePeriod() {
+        // Given
+        window.record(1_000);
+
+        // When
+        clock.addAndGet(5_000_000);
+
+        // Then
+        assertThat(window.snapshot().count()).isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringonalMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(SpringonalMetricsAutoConfiguration.class));
+
+    @Test
+    void shouldNotPublishScanMetricsByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(SpringonalScanMetrics.class));
+    }
+
+    @Test
+    void shouldPublishScanMetricsWhenEnabled() {
+        contextRunner.withPropertyValues(SpringonalScanMetricsProperties.PREFIX + ".enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(SpringonalScanMetrics.class));
+    }
+}
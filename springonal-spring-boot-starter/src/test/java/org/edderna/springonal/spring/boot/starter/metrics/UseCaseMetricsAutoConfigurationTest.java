@@ -0,0 +1,112 @@
+package org.edderna.springonal.spring.boot.starter.metrics;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UseCaseMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(UseCaseMetricsAutoConfiguration.class))
+            .withUserConfiguration(UseCaseConfiguration.class);
+
+    @Test
+    void shouldNotInstrumentUseCasesByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(UseCaseLatencyPostProcessor.class);
+            assertThat(AopUtils.isAopProxy(context.getBean(CreateOrder.class))).isFalse();
+        });
+    }
+
+    @Test
+    void shouldRecordUseCaseLatencyWhenEnabled() {
+        contextRunner.withPropertyValues(
+                "springonal.use-case.metrics.enabled=true",
+                "management.endpoints.web.exposure.include=usecases"
+        ).run(context -> {
+            // Given
+            CreateOrder useCase = context.getBean(CreateOrder.class);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean(UseCaseLatencyMetrics.class).bindTo(registry);
+
+            // When
+            useCase.execute("order");
+            useCase.execute("order");
+
+            // Then
+            assertThat(AopUtils.isCglibProxy(useCase)).isTrue();
+            FunctionTimer timer = registry.get("springonal.use-case")
+                    .tags("use-case", CreateOrder.class.getName(), "method", "execute")
+                    .functionTimer();
+            assertThat(timer.count()).isEqualTo(2);
+            assertThat(registry.get("springonal.use-case.percentile").tag("phi", "0.99").gauge())
+                    .extracting(Gauge::value)
+                    .satisfies(value -> assertThat((double) value).isPositive());
+            assertThat(context.getBean(UseCaseLatencyEndpoint.class).latencies())
+                    .containsOnlyKeys(CreateOrder.class.getName() + "#execute")
+                    .extractingByKey(CreateOrder.class.getName() + "#execute")
+                    .satisfies(latency -> assertThat(latency.count()).isEqualTo(2));
+        });
+    }
+
+    @Test
+    void shouldNotInstrumentBeansWithoutUseCaseAnnotation() {
+        contextRunner.withPropertyValues("springonal.use-case.metrics.enabled=true").run(context -> {
+            assertThat(AopUtils.isAopProxy(context.getBean(OrderRepository.class))).isFalse();
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class UseCaseConfiguration {
+
+        @Bean
+        CreateOrder createOrder() {
+            return new CreateOrder();
+        }
+
+        @Bean
+        OrderRepository orderRepository() {
+            return new OrderRepository();
+        }
+    }
+
+    @UseCase
+    static class CreateOrder {
+
+        String execute(String order) {
+            return order.toUpperCase();
+        }
+    }
+
+    static class OrderRepository {
+    }
+}
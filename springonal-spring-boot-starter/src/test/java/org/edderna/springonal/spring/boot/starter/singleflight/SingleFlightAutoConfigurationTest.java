@@ -0,0 +1,207 @@
+package org.edderna.springonal.spring.boot.starter.singleflight;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.interfaces.IndoundRestAdapter;
+import org.edderna.springonal.annotations.interfaces.SingleFlight;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(SingleFlightAutoConfiguration.class))
+            .withUserConfiguration(ProductConfiguration.class)
+            .withPropertyValues(SingleFlightProperties.PREFIX + ".enabled=true");
+
+    @Test
+    void shouldShareOneExecutionAcrossConcurrentIdenticalCalls() {
+        contextRunner.run(context -> {
+            // Given
+            ProductController controller = context.getBean(ProductController.class);
+            ProductCatalog catalog = context.getBean(ProductCatalog.class);
+            SingleFlightGroup group = group(context.getBean(SingleFlightGroups.class), "find", String.class);
+            List<Future<String>> results = new ArrayList<>();
+
+            // When
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 20; i++) {
+                    results.add(executor.submit(() -> controller.find("p-1")));
+                }
+                awaitCoalesced(group, 19);
+                catalog.release.countDown();
+
+                // Then
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("product p-1 #1");
+                }
+            }
+            assertThat(catalog.executions).hasValue(1);
+            assertThat(group.getExecutions()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldPropagateFailureToEveryWaiter() {
+        contextRunner.run(context -> {
+            // Given
+            ProductController controller = context.getBean(ProductController.class);
+            ProductCatalog catalog = context.getBean(ProductCatalog.class);
+            SingleFlightGroup group = group(context.getBean(SingleFlightGroups.class), "find", String.class);
+            List<Future<String>> results = new ArrayList<>();
+
+            // When
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 5; i++) {
+                    results.add(executor.submit(() -> controller.find("missing")));
+                }
+                awaitCoalesced(group, 4);
+                catalog.release.countDown();
+
+                // Then
+                for (Future<String> result : results) {
+                    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                            .hasCauseInstanceOf(IllegalArgumentException.class);
+                }
+            }
+        });
+    }
+
+    @Test
+    void shouldRunOnItsOwnAfterMaxWait() {
+        contextRunner.run(context -> {
+            // Given
+            ProductController controller = context.getBean(ProductController.class);
+            ProductCatalog catalog = context.getBean(ProductCatalog.class);
+            SingleFlightGroup group = group(context.getBean(SingleFlightGroups.class), "search", String.class, String.class);
+
+            // When
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<String> leader = executor.submit(() -> controller.search("shoes", "trace-1"));
+                catalog.searching.await(5, TimeUnit.SECONDS);
+                String follower = controller.search("shoes", "trace-2");
+                catalog.release.countDown();
+
+                // Then
+                assertThat(follower).isEqualTo("shoes trace-2");
+                assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("shoes trace-1");
+            }
+            assertThat(group.getTimeouts()).isEqualTo(1);
+            assertThat(group.getExecutions()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldNotCoalesceCallsUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(SingleFlightAutoConfiguration.class))
+                .withUserConfiguration(ProductConfiguration.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(SingleFlightGroups.class);
+                    assertThat(AopUtils.isAopProxy(context.getBean(ProductController.class))).isFalse();
+                });
+    }
+
+    private static SingleFlightGroup group(SingleFlightGroups groups, String name, Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        return groups.group(ProductController.class, ProductController.class.getDeclaredMethod(name, parameterTypes));
+    }
+
+    private static void awaitCoalesced(SingleFlightGroup group, int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (group.getCoalesced() < waiters && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class ProductConfiguration {
+
+        @Bean
+        ProductCatalog productCatalog() {
+            return new ProductCatalog();
+        }
+
+        @Bean
+        ProductController productController(ProductCatalog productCatalog) {
+            return new ProductController(productCatalog);
+        }
+
+        @Bean
+        SingleFlightKeyExtractor queryOnly() {
+            return (method, arguments) -> arguments[0];
+        }
+    }
+
+    static class ProductCatalog {
+
+        final AtomicInteger executions = new AtomicInteger();
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final CountDownLatch searching = new CountDownLatch(1);
+    }
+
+    @IndoundRestAdapter
+    static class ProductController {
+
+        private final ProductCatalog catalog;
+
+        ProductController(ProductCatalog catalog) {
+            this.catalog = catalog;
+        }
+
+        @SingleFlight
+        String find(String id) throws InterruptedException {
+            int execution = catalog.executions.incrementAndGet();
+            catalog.release.await(5, TimeUnit.SECONDS);
+            if (id.equals("missing")) {
+                throw new IllegalArgumentException("Unknown product " + id);
+            }
+            return "product " + id + " #" + execution;
+        }
+
+        @SingleFlight(keyExtractor = "queryOnly", maxWaitMillis = 50)
+        String search(String query, String traceId) throws InterruptedException {
+            if (traceId.equals("trace-1")) {
+                catalog.searching.countDown();
+                catalog.release.await(5, TimeUnit.SECONDS);
+            }
+            return query + " " + traceId;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.edderna.springonal.spring.boot.starter.valueobject;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.edderna.springonal.annotations.domain.ValueObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueObjectInterningModuleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new ValueObjectInterningModule());
+
+    @Test
+    void shouldInternValueObjectsOnDeserialization() throws Exception {
+        // When
+        List<Price> prices = List.of(objectMapper.readValue("""
+                [{"amount": 10, "currency": {"code": "EUR"}}, {"amount": 20, "currency": {"code": "EUR"}}]
+                """, Price[].class));
+
+        // Then
+        assertThat(prices.get(0).currency()).isSameAs(prices.get(1).currency());
+        assertThat(prices.get(0)).isNotSameAs(prices.get(1));
+    }
+
+    @Test
+    void shouldLeaveOtherTypesUntouched() throws Exception {
+        // When
+        Price first = objectMapper.readValue("{\"amount\": 10, \"currency\": {\"code\": \"USD\"}}", Price.class);
+        Price second = objectMapper.readValue("{\"amount\": 10, \"currency\": {\"code\": \"USD\"}}", Price.class);
+
+        // Then
+        assertThat(first).isEqualTo(second).isNotSameAs(second);
+    }
+
+    record Price(long amount, Currency currency) {
+    }
+
+    @ValueObject(intern = true)
+    record Currency(String code) {
+    }
+}
@@ -0,0 +1,401 @@
+package org.edderna.springonal.spring.boot.starter.warmup;
+
+/*-
+ * #%L
+ * springonal
+ * %%
+ * Copyright (C) 2025 - 2026 Eduardo Daniel Hernandez
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.edderna.springonal.annotations.application.ExecutionMode;
+import org.edderna.springonal.annotations.application.UseCase;
+import org.edderna.springonal.annotations.application.WarmupScenario;
+import org.edderna.springonal.annotations.domain.AggregateRoot;
+import org.edderna.springonal.annotations.domain.DomainEventListener;
+import org.edderna.springonal.annotations.infrastructure.OutboundDatabaseAdapter;
+import org.edderna.springonal.annotations.interfaces.IndoundRestAdapter;
+import org.edderna.springonal.core.AbstractAggregateRoot;
+import org.edderna.springonal.spring.boot.starter.events.DomainEventAutoConfiguration;
+import org.edderna.springonal.spring.boot.starter.events.DomainEventProperties;
+import org.edderna.springonal.spring.boot.starter.isolation.ExecutorIsolationAutoConfiguration;
+import org.edderna.springonal.spring.boot.starter.isolation.ExecutorIsolationProperties;
+import org.edderna.springonal.spring.boot.starter.metrics.UseCaseLatencyRecorder;
+import org.edderna.springonal.spring.boot.starter.metrics.UseCaseMetricsAutoConfiguration;
+import org.edderna.springonal.spring.boot.starter.metrics.UseCaseMetricsProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(WarmupAutoConfiguration.class))
+            .withUserConfiguration(WarmupConfiguration.class)
+            .withPropertyValues(WarmupProperties.PREFIX + ".enabled=true",
+                    WarmupProperties.PREFIX + ".stub-outbound-adapters=true");
+
+    @Test
+    void shouldRunScenariosAgainstStubbedOutboundAdapters() {
+        contextRunner.run(context -> {
+            // Given
+            Ledger ledger = context.getBean(Ledger.class);
+
+            // When
+            context.getBean(WarmupRunner.class).run(null);
+
+            // Then
+            assertThat(ledger.scenarioRuns.get()).isEqualTo(50);
+            assertThat(ledger.controllerRuns.get()).isEqualTo(10);
+            assertThat(ledger.databaseCalls.get()).isZero();
+            assertThat(ledger.missingOrders.get()).isEqualTo(50);
+            assertThat(context.getBean(WarmupRunner.class).getReport()).hasValueSatisfying(report -> {
+                assertThat(report.scenarios()).isEqualTo(2);
+                assertThat(report.invocations()).isEqualTo(60);
+                assertThat(report.failures()).isZero();
+                assertThat(report.timedOut()).isFalse();
+            });
+        });
+    }
+
+    @Test
+    void shouldReachOutboundAdaptersOutsideWarmup() {
+        contextRunner.run(context -> {
+            // Given
+            context.getBean(WarmupRunner.class).run(null);
+
+            // When
+            Optional<String> order = context.getBean(OrderRepository.class).find("o-1");
+
+            // Then
+            assertThat(order).contains("order:o-1");
+            assertThat(context.getBean(Ledger.class).databaseCalls.get()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldUseConfiguredStub() {
+        contextRunner.withBean(WarmupStub.class, () -> (adapter, method, arguments) -> Optional.of("stubbed"))
+                .run(context -> {
+                    Ledger ledger = context.getBean(Ledger.class);
+
+                    context.getBean(WarmupRunner.class).run(null);
+
+                    assertThat(ledger.missingOrders.get()).isZero();
+                    assertThat(ledger.databaseCalls.get()).isZero();
+                });
+    }
+
+    @Test
+    void shouldCountFailingScenarios() {
+        contextRunner.withPropertyValues("springonal.warmup.stub-outbound-adapters=false").run(context -> {
+            // Given
+            context.getBean(Ledger.class).failDatabase = true;
+
+            // When
+            context.getBean(WarmupRunner.class).run(null);
+
+            // Then
+            assertThat(context.getBean(WarmupRunner.class).getReport())
+                    .hasValueSatisfying(report -> assertThat(report.failures()).isEqualTo(50));
+        });
+    }
+
+    @Test
+    void shouldReachOutboundAdaptersFromIsolatedUseCasesAfterWarmup() {
+        contextRunner.withConfiguration(AutoConfigurations.of(ExecutorIsolationAutoConfiguration.class))
+                .withUserConfiguration(CpuBoundConfiguration.class)
+                .withPropertyValues(ExecutorIsolationProperties.PREFIX + ".enabled=true",
+                        ExecutorIsolationProperties.PREFIX + ".cpu.threads=2")
+                .run(context -> {
+                    // Given
+                    context.getBean(WarmupRunner.class).run(null);
+                    PriceOrder priceOrder = context.getBean(PriceOrder.class);
+
+                    // When
+                    List<Optional<String>> orders = List.of(priceOrder.find("o-1"), priceOrder.find("o-2"),
+                            priceOrder.find("o-3"), priceOrder.find("o-4"));
+
+                    // Then
+                    assertThat(orders).containsExactly(Optional.of("order:o-1"), Optional.of("order:o-2"),
+                            Optional.of("order:o-3"), Optional.of("order:o-4"));
+                });
+    }
+
+    @Test
+    void shouldNotPublishEventsOrRecordLatencyDuringWarmup() {
+        contextRunner.withConfiguration(AutoConfigurations.of(DomainEventAutoConfiguration.class,
+                        UseCaseMetricsAutoConfiguration.class))
+                .withUserConfiguration(InvoiceConfiguration.class)
+                .withPropertyValues(DomainEventProperties.PREFIX + ".enabled=true",
+                        UseCaseMetricsProperties.PREFIX + ".enabled=true")
+                .run(context -> {
+                    // Given
+                    InvoiceListener listener = context.getBean(InvoiceListener.class);
+                    UseCaseLatencyRecorder recorder = context.getBean(UseCaseLatencyRecorder.class);
+
+                    // When
+                    context.getBean(WarmupRunner.class).run(null);
+
+                    // Then
+                    assertThat(context.getBean(Ledger.class).scenarioRuns.get()).isEqualTo(70);
+                    assertThat(listener.issued.poll(200, TimeUnit.MILLISECONDS)).isNull();
+                    assertThat(recorder.getLatencies()).isEmpty();
+
+                    // When
+                    context.getBean(IssueInvoice.class).issue("i-1");
+
+                    // Then
+                    assertThat(listener.issued.poll(5, TimeUnit.SECONDS)).isEqualTo(new InvoiceIssued("i-1"));
+                    assertThat(listener.issued).isEmpty();
+                    assertThat(recorder.getLatencies()).singleElement()
+                            .satisfies(latency -> assertThat(latency.histogram().count()).isEqualTo(1));
+                });
+    }
+
+    @Test
+    void shouldNotRegisterWarmupUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(WarmupAutoConfiguration.class))
+                .withUserConfiguration(WarmupConfiguration.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(WarmupRunner.class);
+                    assertThat(context).doesNotHaveBean(WarmupStubPostProcessor.class);
+                });
+    }
+
+    @Test
+    void shouldNotStubOutboundAdaptersUnlessEnabled() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(WarmupAutoConfiguration.class))
+                .withUserConfiguration(WarmupConfiguration.class)
+                .withPropertyValues(WarmupProperties.PREFIX + ".enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(WarmupRunner.class);
+                    assertThat(context).doesNotHaveBean(WarmupStubPostProcessor.class);
+                });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class WarmupConfiguration {
+
+        @Bean
+        Ledger ledger() {
+            return new Ledger();
+        }
+
+        @Bean
+        OrderRepository orderRepository(Ledger ledger) {
+            return new OrderRepository(ledger);
+        }
+
+        @Bean
+        FindOrder findOrder(OrderRepository orderRepository, Ledger ledger) {
+            return new FindOrder(orderRepository, ledger);
+        }
+
+        @Bean
+        OrderController orderController(Ledger ledger) {
+            return new OrderController(ledger);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class CpuBoundConfiguration {
+
+        @Bean
+        PriceOrder priceOrder(OrderRepository orderRepository) {
+            return new PriceOrder(orderRepository);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class InvoiceConfiguration {
+
+        @Bean
+        InvoiceRepository invoiceRepository() {
+            return new InvoiceRepository();
+        }
+
+        @Bean
+        IssueInvoice issueInvoice(InvoiceRepository invoiceRepository, Ledger ledger) {
+            return new IssueInvoice(invoiceRepository, ledger);
+        }
+
+        @Bean
+        InvoiceListener invoiceListener() {
+            return new InvoiceListener();
+        }
+    }
+
+    static class Ledger {
+
+        final AtomicInteger scenarioRuns = new AtomicInteger();
+
+        final AtomicInteger controllerRuns = new AtomicInteger();
+
+        final AtomicInteger databaseCalls = new AtomicInteger();
+
+        final AtomicInteger missingOrders = new AtomicInteger();
+
+        volatile boolean failDatabase;
+    }
+
+    @OutboundDatabaseAdapter
+    static class OrderRepository {
+
+        private final Ledger ledger;
+
+        OrderRepository(Ledger ledger) {
+            this.ledger = ledger;
+        }
+
+        public Optional<String> find(String id) {
+            if (ledger.failDatabase) {
+                throw new IllegalStateException("database unavailable");
+            }
+            ledger.databaseCalls.incrementAndGet();
+            return Optional.of("order:" + id);
+        }
+    }
+
+    @UseCase
+    static class FindOrder {
+
+        private final OrderRepository orderRepository;
+
+        private final Ledger ledger;
+
+        FindOrder(OrderRepository orderRepository, Ledger ledger) {
+            this.orderRepository = orderRepository;
+            this.ledger = ledger;
+        }
+
+        public Optional<String> find(String id) {
+            return orderRepository.find(id);
+        }
+
+        @WarmupScenario(iterations = 50, threads = 4)
+        public void warmup() {
+            ledger.scenarioRuns.incrementAndGet();
+            if (find("warmup").isEmpty()) {
+                ledger.missingOrders.incrementAndGet();
+            }
+        }
+    }
+
+    @UseCase(executionMode = ExecutionMode.CPU_BOUND)
+    static class PriceOrder {
+
+        private final OrderRepository orderRepository;
+
+        PriceOrder(OrderRepository orderRepository) {
+            this.orderRepository = orderRepository;
+        }
+
+        public Optional<String> find(String id) {
+            return orderRepository.find(id);
+        }
+
+        @WarmupScenario(iterations = 20, threads = 1)
+        public void warmup() {
+            find("warmup");
+        }
+    }
+
+    @IndoundRestAdapter
+    static class OrderController {
+
+        private final Ledger ledger;
+
+        OrderController(Ledger ledger) {
+            this.ledger = ledger;
+        }
+
+        public List<String> list() {
+            return List.of();
+        }
+
+        @WarmupScenario(iterations = 10)
+        void warmup() {
+            ledger.controllerRuns.incrementAndGet();
+            list();
+        }
+    }
+
+    record InvoiceIssued(String invoiceId) {
+    }
+
+    @AggregateRoot
+    static class Invoice extends AbstractAggregateRoot {
+
+        static Invoice issue(String id) {
+            Invoice invoice = new Invoice();
+            invoice.registerEvent(new InvoiceIssued(id));
+            return invoice;
+        }
+    }
+
+    @OutboundDatabaseAdapter
+    static class InvoiceRepository {
+
+        public void save(Invoice invoice) {
+        }
+    }
+
+    @UseCase
+    static class IssueInvoice {
+
+        private final InvoiceRepository invoiceRepository;
+
+        private final Ledger ledger;
+
+        IssueInvoice(InvoiceRepository invoiceRepository, Ledger ledger) {
+            this.invoiceRepository = invoiceRepository;
+            this.ledger = ledger;
+        }
+
+        public void issue(String id) {
+            invoiceRepository.save(Invoice.issue(id));
+        }
+
+        @WarmupScenario(iterations = 20, threads = 2)
+        public void warmup() {
+            ledger.scenarioRuns.incrementAndGet();
+            issue("warmup");
+        }
+    }
+
+    static class InvoiceListener {
+
+        final BlockingQueue<InvoiceIssued> issued = new LinkedBlockingQueue<>();
+
+        @DomainEventListener
+        void onIssued(InvoiceIssued event) {
+            issued.add(event);
+        }
+    }
+}